@@ -0,0 +1,30 @@
+package com.example.participantservice.loadgen;
+
+/**
+ * Every {@code ParticipantController} operation the generator drives, each reported on its own line.
+ */
+public enum Endpoint {
+    CREATE("POST /participants"),
+    GET_ALL("GET /participants?fields"),
+    GET_BY_IDS("GET /participants?ids"),
+    LOOKUP("POST /participants/lookup"),
+    GET_BY_ID("GET /participants/{id}"),
+    GET_BY_ID_FIELDS("GET /participants/{id}?fields"),
+    GET_DETAIL("GET /participants/{id}/full"),
+    UPDATE("PUT /participants/{id}"),
+    STATUS_TRANSITION("POST /participants/status-transitions"),
+    DELETE("DELETE /participants/{id}"),
+    ENROLL("POST /participants/enrollments"),
+    ACTIVE_ENROLLMENTS("GET /participants/{id}/enrollments/active"),
+    SEARCH("GET /participants/search");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.participantservice.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and outcome counts. Recording is lock-free; {@link #interval()} swaps in empty
+ * histograms and hands back what was recorded since the previous call, so warm-up can be discarded while the load
+ * keeps running. Latencies are recorded in microseconds.
+ */
+public final class LatencyStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> clientErrors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> failures = new EnumMap<>(Endpoint.class);
+    private final LongAdder dropped = new LongAdder();
+
+    public record EndpointResult(Histogram latency, long clientErrors, long failures) {}
+
+    public record Interval(Map<Endpoint, EndpointResult> endpoints, long dropped, Duration elapsed) {}
+
+    public LatencyStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(SIGNIFICANT_DIGITS));
+            clientErrors.put(endpoint, new LongAdder());
+            failures.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * @param status HTTP status, or -1 when no response arrived
+     */
+    public void record(Endpoint endpoint, long startNanos, int status) {
+        recorders.get(endpoint).recordValue(Math.max(0, (System.nanoTime() - startNanos) / 1_000));
+        if (status < 0 || status >= 500) {
+            failures.get(endpoint).increment();
+        } else if (status >= 400) {
+            clientErrors.get(endpoint).increment();
+        }
+    }
+
+    // An open-loop arrival skipped because max-in-flight requests were already outstanding
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public Interval interval(Duration elapsed) {
+        Map<Endpoint, EndpointResult> results = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            results.put(endpoint, new EndpointResult(recorders.get(endpoint).getIntervalHistogram(),
+                    clientErrors.get(endpoint).sumThenReset(), failures.get(endpoint).sumThenReset()));
+        }
+        return new Interval(results, dropped.sumThenReset(), elapsed);
+    }
+
+    public static void print(Interval interval, PrintStream out) {
+        double seconds = Math.max(interval.elapsed().toMillis(), 1) / 1000.0;
+        out.printf(Locale.ROOT, "%-44s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "4xx", "5xx/err", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalClientErrors = 0;
+        long totalFailures = 0;
+        for (Map.Entry<Endpoint, EndpointResult> entry : interval.endpoints().entrySet()) {
+            EndpointResult result = entry.getValue();
+            if (result.latency().getTotalCount() == 0) {
+                continue;
+            }
+            row(out, entry.getKey().label(), result.latency(), result.clientErrors(), result.failures(), seconds);
+            total.add(result.latency());
+            totalClientErrors += result.clientErrors();
+            totalFailures += result.failures();
+        }
+        row(out, "TOTAL", total, totalClientErrors, totalFailures, seconds);
+        if (interval.dropped() > 0) {
+            out.printf(Locale.ROOT, "%d arrivals dropped at max-in-flight; the service did not keep up with the offered rate%n",
+                    interval.dropped());
+        }
+    }
+
+    // Full percentile distributions in HdrHistogram's text format, in milliseconds, for plotting
+    public static void write(Interval interval, Path directory, String stage) {
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<Endpoint, EndpointResult> entry : interval.endpoints().entrySet()) {
+                if (entry.getValue().latency().getTotalCount() == 0) {
+                    continue;
+                }
+                Path file = directory.resolve(stage + "-" + entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                    entry.getValue().latency().outputPercentileDistribution(out, 1_000.0);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to write histograms to " + directory, ex);
+        }
+    }
+
+    private static void row(PrintStream out, String label, Histogram latency, long clientErrors, long failures, double seconds) {
+        out.printf(Locale.ROOT, "%-44s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, latency.getTotalCount(), clientErrors, failures, latency.getTotalCount() / seconds,
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / 1_000.0);
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000.0;
+    }
+}
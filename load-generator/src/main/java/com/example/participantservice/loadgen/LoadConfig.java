@@ -0,0 +1,103 @@
+package com.example.participantservice.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command-line settings, given as {@code --name=value}. Every setting has a default, so a bare run drives a local
+ * service with a closed loop of 20 users for a minute.
+ */
+public record LoadConfig(
+        URI baseUrl,
+        Pacing pacing,
+        List<Integer> stages,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        TrafficMix mix,
+        List<String> programs,
+        int seedParticipants,
+        double skew,
+        int subjects,
+        String issuer,
+        int jwksPort,
+        Path keyFile,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path histogramDir
+) {
+
+    /**
+     * CLOSED keeps a fixed number of users, each starting its next scenario when the last one finishes; throughput
+     * follows the service. OPEN starts scenarios at a fixed rate whether or not earlier ones have finished.
+     */
+    public enum Pacing { CLOSED, OPEN }
+
+    static final Map<String, String> DEFAULTS = defaults();
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("base-url", "http://localhost:7080/service");
+        defaults.put("pacing", "closed");
+        defaults.put("stages", "20");
+        defaults.put("warmup", "PT10S");
+        defaults.put("duration", "PT60S");
+        defaults.put("think-time", "PT0S");
+        defaults.put("mix", "browse=70,search=15,enroll=10,admin=5");
+        defaults.put("programs", "ADULT");
+        defaults.put("seed-participants", "200");
+        defaults.put("skew", "3");
+        defaults.put("subjects", "20");
+        defaults.put("issuer", "http://localhost:8099");
+        defaults.put("jwks-port", "8099");
+        defaults.put("key-file", "target/loadgen-jwk.json");
+        defaults.put("max-in-flight", "5000");
+        defaults.put("request-timeout", "PT10S");
+        defaults.put("histogram-dir", "");
+        return defaults;
+    }
+
+    public static LoadConfig parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Arguments look like --name=value: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!values.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown setting --" + name + "; known: " + DEFAULTS.keySet());
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new LoadConfig(
+                URI.create(values.get("base-url")),
+                Pacing.valueOf(values.get("pacing").toUpperCase(Locale.ROOT)),
+                Arrays.stream(values.get("stages").split(",")).map(String::trim).map(Integer::valueOf).toList(),
+                Duration.parse(values.get("warmup")),
+                Duration.parse(values.get("duration")),
+                Duration.parse(values.get("think-time")),
+                TrafficMix.parse(values.get("mix")),
+                Arrays.stream(values.get("programs").split(",")).map(String::trim).filter(code -> !code.isEmpty()).toList(),
+                Integer.parseInt(values.get("seed-participants")),
+                Double.parseDouble(values.get("skew")),
+                Integer.parseInt(values.get("subjects")),
+                values.get("issuer"),
+                Integer.parseInt(values.get("jwks-port")),
+                Path.of(values.get("key-file")),
+                Integer.parseInt(values.get("max-in-flight")),
+                Duration.parse(values.get("request-timeout")),
+                values.get("histogram-dir").isBlank() ? null : Path.of(values.get("histogram-dir")));
+    }
+
+    // Warm-up and measurement of every stage, plus slack for seeding; tokens must outlive the whole run
+    public Duration runTime() {
+        return warmup.plus(duration).multipliedBy(stages.size()).plusHours(1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.participantservice.loadgen;
+
+import com.example.participantservice.loadgen.LoadConfig.Pacing;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the configured traffic mix against a running participant-service and prints throughput and latency
+ * percentiles per endpoint for each stage. Every request runs on its own virtual thread, so thousands of
+ * outstanding requests cost no platform threads and the generator is rarely the bottleneck.
+ *
+ * <p>Run the stages as a sweep, for example {@code --stages=5,10,20,40,80} users, to see where throughput stops
+ * rising and latency turns up: with the 20-connection pool that knee is the service's measured capacity.
+ */
+public final class LoadGenerator {
+
+    // Mostly active, so status searches return full pages for every status
+    private static final List<String> SEED_STATUSES = List.of("ACTIVE", "ACTIVE", "ACTIVE", "PENDING", "INACTIVE");
+
+    private final LoadConfig config;
+    private final ServiceClient client;
+    private final LatencyStats stats;
+    private final PrintStream out;
+
+    LoadGenerator(LoadConfig config, ServiceClient client, LatencyStats stats, PrintStream out) {
+        this.config = config;
+        this.client = client;
+        this.stats = stats;
+        this.out = out;
+    }
+
+    public static void main(String[] args) {
+        LoadConfig config = LoadConfig.parse(args);
+        PrintStream out = System.out;
+        try (TokenIssuer issuer = new TokenIssuer(config.keyFile(), config.issuer(), config.jwksPort());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(executor)
+                     .build()) {
+            out.printf("Signing keys at %s; start the service with%n", issuer.jwksUri());
+            out.printf("  spring.security.oauth2.resourceserver.jwt.jwk-set-uri=%s%n", issuer.jwksUri());
+            out.printf("  spring.security.oauth2.resourceserver.jwt.issuer-uri=%s%n", issuer.issuer());
+
+            LatencyStats stats = new LatencyStats();
+            ServiceClient client = new ServiceClient(http, config.baseUrl(), issuer.issue(config.subjects(), config.runTime()),
+                    stats, config.requestTimeout());
+            new LoadGenerator(config, client, stats, out).run();
+        }
+    }
+
+    void run() {
+        ParticipantPool pool = seed();
+        out.printf(Locale.ROOT, "Seeded %d participants; mix %s, %s loop%n", pool.size(), config.mix(),
+                config.pacing().name().toLowerCase(Locale.ROOT));
+        for (int stage : config.stages()) {
+            String label = config.pacing() == Pacing.CLOSED ? stage + " users" : stage + " scenarios/s";
+            LatencyStats.Interval interval = config.pacing() == Pacing.CLOSED ? closedLoop(pool, stage) : openLoop(pool, stage);
+            out.printf(Locale.ROOT, "%n== %s, %d s measured after %d s warm-up ==%n", label,
+                    interval.elapsed().toSeconds(), config.warmup().toSeconds());
+            LatencyStats.print(interval, out);
+            if (config.histogramDir() != null) {
+                LatencyStats.write(interval, config.histogramDir(),
+                        config.pacing().name().toLowerCase(Locale.ROOT) + "-" + stage);
+            }
+        }
+    }
+
+    // Participants for the read scenarios to work on; creating them also checks the service accepts our tokens
+    private ParticipantPool seed() {
+        List<Future<Long>> created = new ArrayList<>(config.seedParticipants());
+        try (ExecutorService seeding = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.seedParticipants(); i++) {
+                created.add(seeding.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    LocalDate dob = LocalDate.of(1950 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28));
+                    String status = SEED_STATUSES.get(random.nextInt(SEED_STATUSES.size()));
+                    return Session.participantId(client.post(Endpoint.CREATE, Scenario.PARTICIPANTS,
+                            Scenario.participant("loadgen-" + UUID.randomUUID() + "@loadgen.invalid", dob, status), false,
+                            System.nanoTime()));
+                }));
+            }
+        }
+        List<Long> ids = created.stream()
+                .map(Future::resultNow)
+                .filter(Objects::nonNull)
+                .toList();
+        LatencyStats.Interval seeding = stats.interval(Duration.ZERO);
+        if (ids.isEmpty()) {
+            out.println("Seeding failed; no participant could be created:");
+            LatencyStats.print(seeding, out);
+        }
+        return new ParticipantPool(ids, config.skew());
+    }
+
+    private LatencyStats.Interval closedLoop(ParticipantPool pool, int users) {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        config.mix().next(ThreadLocalRandom.current()).run(new Session(client, pool, config, 0));
+                        if (!config.thinkTime().isZero()) {
+                            LockSupport.parkNanos(config.thinkTime().toNanos());
+                        }
+                    }
+                });
+            }
+            return measure(measureFrom, end);
+        }
+    }
+
+    private LatencyStats.Interval openLoop(ParticipantPool pool, int ratePerSecond) {
+        long interval = 1_000_000_000L / ratePerSecond;
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                for (long next = start; next < end; next += interval) {
+                    LockSupport.parkNanos(next - System.nanoTime());
+                    if (!inFlight.tryAcquire()) {
+                        stats.dropped();
+                        continue;
+                    }
+                    long intendedStart = next;
+                    executor.submit(() -> {
+                        try {
+                            config.mix().next(ThreadLocalRandom.current()).run(new Session(client, pool, config, intendedStart));
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            });
+            return measure(measureFrom, end);
+        }
+    }
+
+    // Discards what was recorded during warm-up, then collects the measurement window while the load keeps running
+    private LatencyStats.Interval measure(long measureFrom, long end) {
+        LockSupport.parkNanos(measureFrom - System.nanoTime());
+        stats.interval(Duration.ZERO);
+        LockSupport.parkNanos(end - System.nanoTime());
+        return stats.interval(Duration.ofNanos(System.nanoTime() - measureFrom));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.participantservice.loadgen;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * Participant IDs the scenarios work on. Seeded IDs are only read, picked with a power-law skew so a few
+ * participants get most of the traffic as in production; IDs created during the run queue up for updates and deletes.
+ */
+public final class ParticipantPool {
+
+    private final long[] seeded;
+    private final double skew;
+    private final ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+
+    public ParticipantPool(List<Long> seeded, double skew) {
+        if (seeded.isEmpty()) {
+            throw new IllegalArgumentException("No participants to read; seeding created none");
+        }
+        this.seeded = seeded.stream().mapToLong(Long::longValue).toArray();
+        this.skew = skew;
+    }
+
+    // skew 1 is uniform; with 3 half of the reads go to the first eighth of the seeded IDs
+    public long hot(RandomGenerator random) {
+        return seeded[(int) (seeded.length * Math.pow(random.nextDouble(), skew))];
+    }
+
+    public String hotList(RandomGenerator random, int size) {
+        StringBuilder ids = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            ids.append(i == 0 ? "" : ",").append(hot(random));
+        }
+        return ids.toString();
+    }
+
+    public void created(long participantId) {
+        created.add(participantId);
+    }
+
+    public Long takeCreated() {
+        return created.poll();
+    }
+
+    public int size() {
+        return seeded.length;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.participantservice.loadgen;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What one simulated client does in a single visit. Each run issues a short burst of requests, the way a page or
+ * batch client does; the mix decides how often each scenario is picked.
+ */
+public enum Scenario {
+
+    /** Read-heavy browsing: a skewed choice of participant, then one of its related views. */
+    BROWSE {
+        @Override
+        public void run(Session session) {
+            long id = session.pool().hot(session.random());
+            session.get(Endpoint.GET_BY_ID, PARTICIPANTS + "/" + id);
+            int next = session.random().nextInt(100);
+            if (next < 35) {
+                session.get(Endpoint.ACTIVE_ENROLLMENTS, PARTICIPANTS + "/" + id + "/enrollments/active");
+            } else if (next < 60) {
+                session.get(Endpoint.GET_DETAIL, PARTICIPANTS + "/" + id + "/full");
+            } else if (next < 80) {
+                session.get(Endpoint.GET_BY_ID_FIELDS, PARTICIPANTS + "/" + id + "?fields=participantId,enrollmentStatus");
+            } else {
+                session.get(Endpoint.GET_BY_IDS, PARTICIPANTS + "?ids=" + session.pool().hotList(session.random(), 20));
+            }
+        }
+    },
+
+    /** Status search paged with the returned cursor, then a bulk lookup of IDs as a batch client would send. */
+    SEARCH {
+        @Override
+        public void run(Session session) {
+            String status = STATUSES.get(session.random().nextInt(STATUSES.size()));
+            String match = session.random().nextInt(10) == 0 ? "PREFIX" : "EXACT";
+            String query = PARTICIPANTS + "/search?status=" + status.substring(0, match.equals("PREFIX") ? 3 : status.length())
+                    + "&match=" + match + "&size=50";
+            String cursor = null;
+            for (int page = 0; page < 3; page++) {
+                String body = session.get(Endpoint.SEARCH, cursor == null ? query : query + "&cursor=" + cursor);
+                cursor = Session.nextCursor(body);
+                if (cursor == null) {
+                    break;
+                }
+            }
+            session.post(Endpoint.LOOKUP, PARTICIPANTS + "/lookup",
+                    "{\"ids\":[" + session.pool().hotList(session.random(), 100) + "]}", false);
+        }
+    },
+
+    /** Enrollment burst: a new participant enrolled in every configured program back to back, then updated. */
+    ENROLL {
+        @Override
+        public void run(Session session) {
+            String email = "loadgen-" + UUID.randomUUID() + "@loadgen.invalid";
+            LocalDate dob = LocalDate.of(1950 + session.random().nextInt(60), 1 + session.random().nextInt(12), 1 + session.random().nextInt(28));
+            Long id = Session.participantId(session.post(Endpoint.CREATE, PARTICIPANTS, participant(email, dob, "PENDING"), true));
+            if (id == null) {
+                return;
+            }
+            for (String program : session.config().programs()) {
+                session.post(Endpoint.ENROLL, PARTICIPANTS + "/enrollments",
+                        "{\"participantId\":" + id + ",\"programCode\":\"" + program + "\",\"userId\":\"loadgen\"}", true);
+            }
+            session.put(Endpoint.UPDATE, PARTICIPANTS + "/" + id, participant(email, dob, "ACTIVE"));
+            session.pool().created(id);
+        }
+    },
+
+    /** Back-office work: a dry-run bulk transition, removing a participant this run created, now and then a full export. */
+    ADMIN {
+        @Override
+        public void run(Session session) {
+            session.post(Endpoint.STATUS_TRANSITION, PARTICIPANTS + "/status-transitions",
+                    "{\"targetStatus\":\"INACTIVE\",\"currentStatus\":\"PENDING\",\"dryRun\":true}", true);
+            Long created = session.pool().takeCreated();
+            if (created != null) {
+                session.delete(Endpoint.DELETE, PARTICIPANTS + "/" + created);
+            }
+            if (session.random().nextInt(10) == 0) {
+                session.get(Endpoint.GET_ALL, PARTICIPANTS + "?fields=participantId,enrollmentStatus");
+            }
+        }
+    };
+
+    static final String PARTICIPANTS = "/api/participants";
+
+    private static final List<String> STATUSES = List.of("ACTIVE", "INACTIVE", "PENDING");
+
+    public abstract void run(Session session);
+
+    static String participant(String email, LocalDate dob, String status) {
+        return "{\"firstName\":\"Load\",\"lastName\":\"Generator\",\"email\":\"" + email + "\",\"dob\":\"" + dob
+                + "\",\"enrollmentStatus\":\"" + status + "\"}";
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.participantservice.loadgen;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends one request to the service with a bearer token and records its latency and outcome. Bodies are read in
+ * full before the clock stops, so the figures include transfer time as a real client sees it.
+ */
+public final class ServiceClient {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final List<String> tokens;
+    private final LatencyStats stats;
+    private final Duration timeout;
+
+    public ServiceClient(HttpClient http, URI baseUrl, List<String> tokens, LatencyStats stats, Duration timeout) {
+        this.http = http;
+        this.baseUrl = baseUrl.toString().replaceAll("/+$", "");
+        this.tokens = tokens;
+        this.stats = stats;
+        this.timeout = timeout;
+    }
+
+    public String get(Endpoint endpoint, String path, long startNanos) {
+        return send(endpoint, request(path).GET(), startNanos);
+    }
+
+    public String post(Endpoint endpoint, String path, String json, boolean idempotent, long startNanos) {
+        HttpRequest.Builder request = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (idempotent) {
+            request.header(IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+        }
+        return send(endpoint, request, startNanos);
+    }
+
+    public String put(Endpoint endpoint, String path, String json, long startNanos) {
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json)), startNanos);
+    }
+
+    public String delete(Endpoint endpoint, String path, long startNanos) {
+        return send(endpoint, request(path).DELETE(), startNanos);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json");
+    }
+
+    // Returns the body of a 2xx response, otherwise null; failures are counted, never thrown
+    private String send(Endpoint endpoint, HttpRequest.Builder request, long startNanos) {
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, startNanos, response.statusCode());
+            return response.statusCode() / 100 == 2 ? response.body() : null;
+        } catch (IOException ex) {
+            stats.record(endpoint, startNanos, -1);
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            stats.record(endpoint, startNanos, -1);
+            return null;
+        }
+    }
+}
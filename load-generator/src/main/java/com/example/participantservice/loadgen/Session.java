@@ -0,0 +1,79 @@
+package com.example.participantservice.loadgen;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.random.RandomGenerator;
+
+/**
+ * One run of a scenario. Under open-loop pacing the first request is timed from when the scenario was scheduled
+ * to start rather than when it did, so a backed-up service shows up as latency instead of silently lowering the
+ * offered load (coordinated omission).
+ */
+public final class Session {
+
+    private static final Pattern PARTICIPANT_ID = Pattern.compile("\"participantId\"\\s*:\\s*(\\d+)");
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final ServiceClient client;
+    private final ParticipantPool pool;
+    private final LoadConfig config;
+    private long intendedStartNanos;
+
+    public Session(ServiceClient client, ParticipantPool pool, LoadConfig config, long intendedStartNanos) {
+        this.client = client;
+        this.pool = pool;
+        this.config = config;
+        this.intendedStartNanos = intendedStartNanos;
+    }
+
+    public ParticipantPool pool() {
+        return pool;
+    }
+
+    public LoadConfig config() {
+        return config;
+    }
+
+    public RandomGenerator random() {
+        return ThreadLocalRandom.current();
+    }
+
+    public String get(Endpoint endpoint, String path) {
+        return client.get(endpoint, path, start());
+    }
+
+    public String post(Endpoint endpoint, String path, String json, boolean idempotent) {
+        return client.post(endpoint, path, json, idempotent, start());
+    }
+
+    public String put(Endpoint endpoint, String path, String json) {
+        return client.put(endpoint, path, json, start());
+    }
+
+    public String delete(Endpoint endpoint, String path) {
+        return client.delete(endpoint, path, start());
+    }
+
+    private long start() {
+        long start = intendedStartNanos != 0 ? intendedStartNanos : System.nanoTime();
+        intendedStartNanos = 0;
+        return start;
+    }
+
+    public static Long participantId(String json) {
+        if (json == null) {
+            return null;
+        }
+        Matcher matcher = PARTICIPANT_ID.matcher(json);
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    public static String nextCursor(String json) {
+        if (json == null) {
+            return null;
+        }
+        Matcher matcher = NEXT_CURSOR.matcher(json);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
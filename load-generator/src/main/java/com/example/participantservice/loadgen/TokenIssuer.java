@@ -0,0 +1,126 @@
+package com.example.participantservice.loadgen;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Signs test tokens with a local RSA key and serves the public half at {@code /jwks.json}, so the service can
+ * verify them through its normal JWKS path once pointed at this issuer. The key is kept in {@code keyFile} and
+ * reused by later runs, which keeps a running service's cached key set valid across generator restarts.
+ */
+public final class TokenIssuer implements AutoCloseable {
+
+    public static final String JWKS_PATH = "/jwks.json";
+
+    private final RSAKey key;
+    private final String issuer;
+    private final HttpServer server;
+
+    public TokenIssuer(Path keyFile, String issuer, int port) {
+        this.key = loadOrGenerate(keyFile);
+        this.issuer = issuer;
+        byte[] jwks = new JWKSet(key.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to serve the JWKS on port " + port, ex);
+        }
+        server.createContext(JWKS_PATH, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+    }
+
+    public String jwksUri() {
+        return "http://localhost:" + server.getAddress().getPort() + JWKS_PATH;
+    }
+
+    public String issuer() {
+        return issuer;
+    }
+
+    /**
+     * One bearer token per subject, valid for {@code lifetime}. Spreading requests over several subjects keeps
+     * the service's JWT decode cache and per-subject hot-key tracking close to production.
+     */
+    public List<String> issue(int subjects, Duration lifetime) {
+        return IntStream.range(0, subjects)
+                .mapToObj(i -> sign("loadgen-" + i, lifetime))
+                .toList();
+    }
+
+    private String sign(String subject, Duration lifetime) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(subject)
+                .claim("email", subject + "@loadgen.invalid")
+                .claim("email_verified", true)
+                .claim("scope", "openid email")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(lifetime)))
+                .jwtID(UUID.randomUUID().toString())
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        try {
+            jwt.sign(new RSASSASigner(key));
+        } catch (JOSEException ex) {
+            throw new IllegalStateException("Unable to sign a test token", ex);
+        }
+        return jwt.serialize();
+    }
+
+    private static RSAKey loadOrGenerate(Path keyFile) {
+        try {
+            if (Files.exists(keyFile)) {
+                return RSAKey.parse(Files.readString(keyFile));
+            }
+            RSAKey generated = new RSAKeyGenerator(2048)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .keyID("loadgen-" + UUID.randomUUID().toString().substring(0, 8))
+                    .generate();
+            if (keyFile.getParent() != null) {
+                Files.createDirectories(keyFile.getParent());
+            }
+            Files.writeString(keyFile, generated.toJSONString());
+            return generated;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read or write the signing key " + keyFile, ex);
+        } catch (ParseException | JOSEException ex) {
+            throw new IllegalStateException("Unable to load or generate the signing key " + keyFile, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.participantservice.loadgen;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Relative weights of the scenarios, parsed from {@code browse=70,search=15,enroll=10,admin=5}.
+ * Scenarios left out get weight 0.
+ */
+public record TrafficMix(Map<Scenario, Integer> weights, int total) {
+
+    public static TrafficMix parse(String spec) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like scenario=weight: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights cannot be negative: " + part);
+            }
+            weights.put(Scenario.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        if (total == 0) {
+            throw new IllegalArgumentException("Mix needs at least one scenario with a positive weight: " + spec);
+        }
+        return new TrafficMix(weights, total);
+    }
+
+    public Scenario next(RandomGenerator random) {
+        int ticket = random.nextInt(total);
+        for (Map.Entry<Scenario, Integer> entry : weights.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights changed while picking");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((scenario, weight) -> text.append(text.isEmpty() ? "" : ",")
+                .append(scenario.name().toLowerCase(Locale.ROOT)).append('=').append(weight));
+        return text.toString();
+    }
+}
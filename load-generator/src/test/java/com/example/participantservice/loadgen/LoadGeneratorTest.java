@@ -0,0 +1,125 @@
+package com.example.participantservice.loadgen;
+
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Should pick scenarios in proportion to their weights and reject malformed mixes")
+    void trafficMix_FollowsWeights() {
+        //Arrange
+        TrafficMix mix = TrafficMix.parse("browse=70, search=30");
+        Random random = new Random(42);
+        Map<Scenario, Integer> picked = new EnumMap<>(Scenario.class);
+
+        //Act
+        for (int i = 0; i < 10_000; i++) {
+            picked.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        //Assert
+        assertEquals(Map.of(Scenario.BROWSE, picked.get(Scenario.BROWSE), Scenario.SEARCH, picked.get(Scenario.SEARCH)), picked);
+        assertEquals(7_000, picked.get(Scenario.BROWSE), 300);
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("browse=0"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("browse"));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse("--users=10"));
+    }
+
+    @Test
+    @DisplayName("Should sign tokens the served JWKS verifies and reuse the stored key on the next run")
+    void tokenIssuer_ServesVerifyingKeyAndReusesIt(@TempDir Path directory) throws Exception {
+        //Arrange
+        Path keyFile = directory.resolve("jwk.json");
+        String token;
+        String jwks;
+
+        //Act
+        try (TokenIssuer issuer = new TokenIssuer(keyFile, "http://loadgen.test", 0);
+             HttpClient http = HttpClient.newHttpClient()) {
+            token = issuer.issue(2, Duration.ofMinutes(5)).getFirst();
+            jwks = http.send(HttpRequest.newBuilder(URI.create(issuer.jwksUri())).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+        }
+        String reissued;
+        try (TokenIssuer issuer = new TokenIssuer(keyFile, "http://loadgen.test", 0)) {
+            reissued = issuer.issue(1, Duration.ofMinutes(5)).getFirst();
+        }
+
+        //Assert
+        RSAKey published = (RSAKey) JWKSet.parse(jwks).getKeys().getFirst();
+        assertFalse(published.isPrivate());
+        SignedJWT jwt = SignedJWT.parse(token);
+        assertTrue(jwt.verify(new RSASSAVerifier(published)));
+        assertTrue(SignedJWT.parse(reissued).verify(new RSASSAVerifier(published)));
+        assertEquals("http://loadgen.test", jwt.getJWTClaimsSet().getIssuer());
+        assertNotNull(jwt.getJWTClaimsSet().getStringClaim("email"));
+    }
+
+    @Test
+    @DisplayName("Should seed, drive every scenario in a closed loop and report per-endpoint percentiles")
+    void run_ReportsEndpointsAgainstStubService() throws Exception {
+        //Arrange
+        AtomicInteger ids = new AtomicInteger();
+        HttpServer service = HttpServer.create(new InetSocketAddress(0), 0);
+        service.createContext("/", exchange -> {
+            String method = exchange.getRequestMethod();
+            int status = method.equals("DELETE") ? 204 : method.equals("POST") && exchange.getRequestURI().getPath().endsWith("/enrollments") ? 409 : 200;
+            byte[] body = ("{\"participantId\":" + ids.incrementAndGet() + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, status == 204 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (status != 204) {
+                    out.write(body);
+                }
+            }
+        });
+        service.start();
+        LoadConfig config = LoadConfig.parse("--base-url=http://localhost:" + service.getAddress().getPort(),
+                "--stages=4", "--warmup=PT0S", "--duration=PT1S", "--seed-participants=10",
+                "--mix=browse=1,search=1,enroll=1,admin=1");
+        LatencyStats stats = new LatencyStats();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //Act
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            new LoadGenerator(config, new ServiceClient(http, config.baseUrl(), List.of("token"), stats, Duration.ofSeconds(5)),
+                    stats, new PrintStream(output, true, StandardCharsets.UTF_8)).run();
+        } finally {
+            service.stop(0);
+        }
+
+        //Assert
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("== 4 users"), report);
+        assertTrue(report.contains(Endpoint.GET_BY_ID.label()), report);
+        assertTrue(report.contains(Endpoint.SEARCH.label()), report);
+        assertTrue(report.contains(Endpoint.ENROLL.label()), report);
+        assertTrue(report.contains(Endpoint.STATUS_TRANSITION.label()), report);
+        assertTrue(report.lines().anyMatch(line -> line.startsWith("TOTAL")), report);
+    }
+}
@@ -8,7 +8,9 @@ public class ServletInitializer extends SpringBootServletInitializer {
 
     @Override
     protected SpringApplicationBuilder configure(@NonNull SpringApplicationBuilder application) {
-        return application.sources(ParticipantServiceApplication.class);
+        // main() is what AOT-generated initializers are looked up by; the default here is this initializer class
+        return application.sources(ParticipantServiceApplication.class)
+                .main(ParticipantServiceApplication.class);
     }
 
 }
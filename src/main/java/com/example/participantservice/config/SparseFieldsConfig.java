@@ -0,0 +1,42 @@
+package com.example.participantservice.config;
+
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lets the {@code fields=} parameter trim {@link ParticipantResponse} JSON. The response record is tagged with a
+ * Jackson filter through a mix-in, so the DTO itself stays annotation-free; by default the filter writes every
+ * property, and {@link #filterProvider(Set)} supplies a narrower one per response.
+ */
+@Configuration
+public class SparseFieldsConfig {
+
+    public static final String PARTICIPANT_FIELDS_FILTER = "participantFields";
+
+    @JsonFilter(PARTICIPANT_FIELDS_FILTER)
+    private interface ParticipantFieldsMixIn {}
+
+    @Bean
+    public JsonMapperBuilderCustomizer participantFieldsCustomizer() {
+        return builder -> builder
+                .addMixIn(ParticipantResponse.class, ParticipantFieldsMixIn.class)
+                .filterProvider(new SimpleFilterProvider()
+                        .addFilter(PARTICIPANT_FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    public static FilterProvider filterProvider(Set<ParticipantField> fields) {
+        Set<String> properties = fields.stream().map(ParticipantField::property).collect(Collectors.toSet());
+        return new SimpleFilterProvider()
+                .addFilter(PARTICIPANT_FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(properties));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.participantservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reports how long the JVM took from launch until readiness turned {@code ACCEPTING_TRAFFIC}.
+ * Unlike {@code application.ready.time}, this includes Liberty server startup before Spring was invoked.
+ */
+@Component
+public class StartupTimingReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    private final MeterRegistry meterRegistry;
+    private volatile long jvmToReadyMillis = -1;
+
+    public StartupTimingReporter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || jvmToReadyMillis >= 0) {
+            return;
+        }
+
+        jvmToReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        Gauge.builder("participant.startup.jvm.to.ready", this, reporter -> reporter.jvmToReadyMillis)
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .description("Time from JVM launch until the readiness state first accepted traffic")
+                .tag("aot", String.valueOf(AotDetector.useGeneratedArtifacts()))
+                .register(meterRegistry);
+
+        log.info("Ready to accept traffic {} ms after JVM launch (Spring AOT: {})",
+                jvmToReadyMillis, AotDetector.useGeneratedArtifacts());
+    }
+}
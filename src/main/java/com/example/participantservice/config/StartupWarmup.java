@@ -0,0 +1,240 @@
+package com.example.participantservice.config;
+
+import com.example.participantservice.config.datasource.ReplicaAwareDataSource;
+import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.request.ParticipantRequest;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.repository.EnrollmentRepository;
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.repository.ProgramTypeRepository;
+import com.example.participantservice.service.StatsService;
+import com.example.participantservice.service.enrollment.EnrollmentEngine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.metadata.CompositeDataSourcePoolMetadataProvider;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadata;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primes the service before Kubernetes sends it traffic. Spring Boot only moves readiness to
+ * {@code ACCEPTING_TRAFFIC} after every {@link ApplicationRunner} has returned, so running here holds the
+ * readiness probe until the primary and replica pools hold their minimum connections, every query has been
+ * planned once, the enrollment path has run in a rolled-back transaction, dashboard counters are seeded and the
+ * JSON hot paths have been exercised.
+ * A failing step is logged and skipped; warm-up never prevents startup.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    // An ID and program code that never exist, so warm-up queries touch no real rows
+    private static final long NO_PARTICIPANT = -1L;
+    private static final String NO_PROGRAM = "WARMUP";
+
+    private final DataSource dataSource;
+    private final ReplicaAwareDataSource replicaAwareDataSource;
+    private final DataSourcePoolMetadataProvider poolMetadataProvider;
+    private final PlatformTransactionManager transactionManager;
+    private final ParticipantRepository participantRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ProgramTypeRepository programTypeRepository;
+    private final EnrollmentEngine enrollmentEngine;
+    private final StatsService statsService;
+    private final ParticipantMapper participantMapper;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+    private final int connections;
+    private final int iterations;
+    private volatile long warmupMillis = -1;
+
+    public StartupWarmup(DataSource dataSource,
+                         ObjectProvider<ReplicaAwareDataSource> replicaAwareDataSource,
+                         ObjectProvider<DataSourcePoolMetadataProvider> poolMetadataProviders,
+                         PlatformTransactionManager transactionManager,
+                         ParticipantRepository participantRepository,
+                         EnrollmentRepository enrollmentRepository,
+                         ProgramTypeRepository programTypeRepository,
+                         EnrollmentEngine enrollmentEngine,
+                         StatsService statsService,
+                         ParticipantMapper participantMapper,
+                         JsonMapper jsonMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${participant.warmup.connections:${DB_MIN_POOL_SIZE:2}}") int connections,
+                         @Value("${participant.warmup.iterations:2000}") int iterations) {
+        this.dataSource = dataSource;
+        this.replicaAwareDataSource = replicaAwareDataSource.getIfAvailable();
+        this.poolMetadataProvider = new CompositeDataSourcePoolMetadataProvider(poolMetadataProviders.orderedStream().toList());
+        this.transactionManager = transactionManager;
+        this.participantRepository = participantRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.programTypeRepository = programTypeRepository;
+        this.enrollmentEngine = enrollmentEngine;
+        this.statsService = statsService;
+        this.participantMapper = participantMapper;
+        this.jsonMapper = jsonMapper;
+        this.meterRegistry = meterRegistry;
+        this.connections = connections;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        step("connection pool", this::openConnections);
+        step("read queries", this::runReadQueries);
+        step("enrollment", this::dryRunEnrollment);
+        step("reference data", this::loadReferenceData);
+        step("mappers and serializers", this::exerciseSerialization);
+
+        warmupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Gauge.builder("participant.startup.warmup", this, warmup -> warmup.warmupMillis)
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .description("Time spent warming up before readiness accepted traffic")
+                .register(meterRegistry);
+        log.info("Warm-up finished in {} ms", warmupMillis);
+    }
+
+    private void step(String name, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            log.debug("Warm-up step '{}' took {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            log.warn("Warm-up step '{}' failed, continuing: {}", name, ex.getMessage());
+        }
+    }
+
+    // Connections from the lazy routing proxy only open a physical connection on first use and always come from
+    // the primary, so fill the pools behind it directly: the primary and, with routing enabled, the replica
+    private void openConnections() {
+        Set<DataSource> pools = new LinkedHashSet<>();
+        if (replicaAwareDataSource != null) {
+            pools.add(replicaAwareDataSource.getPrimary());
+            pools.add(replicaAwareDataSource.getReplica());
+        } else if (dataSource instanceof LazyConnectionDataSourceProxy lazy && lazy.getTargetDataSource() != null) {
+            pools.add(lazy.getTargetDataSource());
+        } else {
+            pools.add(dataSource);
+        }
+        for (DataSource pool : pools) {
+            openConnections(pool, minimumConnections(pool));
+        }
+    }
+
+    // The pool's own minimum when Spring Boot can read it (Hikari, UCP, DBCP2); Liberty's JNDI pools do not
+    // expose it, so they fall back to participant.warmup.connections, which follows DB_MIN_POOL_SIZE like server.xml
+    private int minimumConnections(DataSource pool) {
+        DataSourcePoolMetadata metadata = poolMetadataProvider.getDataSourcePoolMetadata(pool);
+        Integer min = metadata != null ? metadata.getMin() : null;
+        return min != null && min > 0 ? min : connections;
+    }
+
+    // Hold the connections at once so the pool actually grows to that size instead of reusing one
+    private void openConnections(DataSource pool, int count) {
+        List<Connection> held = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                Connection connection = pool.getConnection();
+                held.add(connection);
+                connection.isValid(5);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // Returning a warm-up connection to the pool failed; the pool will replace it
+                }
+            }
+        }
+    }
+
+    // Read-only, so with replica routing enabled these also open and prime the replica pool
+    private void runReadQueries() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            LocalDate today = LocalDate.now();
+            participantRepository.findById(NO_PARTICIPANT);
+            participantRepository.findAllById(List.of(NO_PARTICIPANT));
+            participantRepository.findWithEnrollmentsById(NO_PARTICIPANT);
+            participantRepository.existsByEmail("warmup@invalid");
+            participantRepository.findByStatusIn(List.of("ACTIVE"), Long.MAX_VALUE, Limit.of(1));
+            participantRepository.findByStatusContaining("ACT", Long.MAX_VALUE, Limit.of(1));
+            participantRepository.findFields(PredicateSpecification.unrestricted(),
+                    EnumSet.of(ParticipantField.PARTICIPANT_ID, ParticipantField.ENROLLMENT_STATUS), Limit.of(1));
+            enrollmentRepository.findRosterAscending(NO_PROGRAM, true, today, LocalDate.of(1, 1, 1), 0L, Limit.of(1));
+            enrollmentRepository.findRosterDescending(NO_PROGRAM, true, today, LocalDate.of(9999, 12, 31), Long.MAX_VALUE, Limit.of(1));
+        });
+    }
+
+    // Runs the configured engine against a participant that does not exist, inside a transaction that is rolled back
+    private void dryRunEnrollment() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            enrollmentEngine.enroll(NO_PARTICIPANT, NO_PROGRAM, "warmup");
+            status.setRollbackOnly();
+        });
+    }
+
+    // Program types are small and read on every roster and enrollment; the stats seed runs the GROUP BY queries
+    private void loadReferenceData() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> programTypeRepository.findAll());
+        statsService.reconcile();
+    }
+
+    private void exerciseSerialization() {
+        Participant participant = new Participant();
+        participant.setParticipantId(NO_PARTICIPANT);
+        participant.setFirstName("Warm");
+        participant.setLastName("Up");
+        participant.setEmail("warmup@invalid");
+        participant.setDob(LocalDate.of(1990, 1, 1));
+        participant.setEnrollmentStatus("ACTIVE");
+        String requestJson = jsonMapper.writeValueAsString(new ParticipantRequest(
+                null, "Warm", "Up", "warmup@invalid", LocalDate.of(1990, 1, 1), "active"));
+
+        for (int i = 0; i < iterations; i++) {
+            ParticipantResponse response = participantMapper.toResponse(participant);
+            jsonMapper.writeValueAsBytes(response);
+            jsonMapper.writeValueAsBytes(List.of(response, response));
+            ParticipantRequest request = jsonMapper.readValue(requestJson, ParticipantRequest.class);
+            participantMapper.updateEntity(request, new Participant());
+            ParticipantMapper.parseFields("participantId,enrollmentStatus");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.participantservice.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.JndiDataSourceLookup;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary pool.
+ * The lazy proxy defers fetching a physical connection until the first statement, by which point
+ * the transaction manager has flagged the connection read-only.
+ */
+@Configuration
+@ConditionalOnProperty(name = "participant.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final JndiDataSourceLookup jndiLookup = new JndiDataSourceLookup();
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${participant.datasource.replica.sticky-window:PT5S}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    public ReplicaAwareDataSource replicaAwareDataSource(
+            @Value("${spring.datasource.jndi-name}") String primaryJndiName,
+            @Value("${participant.datasource.replica.jndi-name}") String replicaJndiName,
+            @Value("${participant.datasource.replica.max-lag:PT5S}") Duration maxLag,
+            @Value("${participant.datasource.replica.lag-query:}") String lagQuery,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        ReplicaAwareDataSource replicaAware = new ReplicaAwareDataSource(
+                jndiLookup.getDataSource(primaryJndiName),
+                jndiLookup.getDataSource(replicaJndiName),
+                readYourWritesTracker, maxLag, lagQuery);
+
+        Gauge.builder("participant.datasource.replica.usable", replicaAware, ds -> ds.isReplicaUsable() ? 1 : 0)
+                .description("1 when read-only transactions are served by the replica, 0 when they fall back to the primary")
+                .register(meterRegistry);
+        Gauge.builder("participant.datasource.replica.lag", replicaAware, ReplicaAwareDataSource::getLastLagSeconds)
+                .baseUnit("seconds")
+                .description("Replica apply lag reported by the last health check")
+                .register(meterRegistry);
+        return replicaAware;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Value("${spring.datasource.jndi-name}") String primaryJndiName,
+                                 ReplicaAwareDataSource replicaAwareDataSource) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(jndiLookup.getDataSource(primaryJndiName));
+        routing.setReadOnlyDataSource(replicaAwareDataSource);
+        // Explicit defaults stop the proxy from opening a connection at startup to discover them
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return routing;
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesInterceptor(ReadYourWritesTracker readYourWritesTracker) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                                Object handler, Exception ex) {
+                        if (MUTATING_METHODS.contains(request.getMethod())) {
+                            readYourWritesTracker.markWrite();
+                        }
+                    }
+                });
+            }
+        };
+    }
+}
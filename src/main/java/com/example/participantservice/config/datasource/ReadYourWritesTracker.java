@@ -0,0 +1,53 @@
+package com.example.participantservice.config.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which authenticated clients wrote recently, so their reads stay on the primary
+ * until the replica has had time to apply the change.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+
+    private final long stickyNanos;
+    private final ConcurrentHashMap<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.stickyNanos = stickyWindow.toNanos();
+    }
+
+    public void markWrite() {
+        String client = currentClient();
+        if (client == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastWriteNanos.size() >= MAX_TRACKED_CLIENTS) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= stickyNanos);
+        }
+        lastWriteNanos.put(client, now);
+    }
+
+    public boolean isSticky() {
+        String client = currentClient();
+        if (client == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(client);
+        return writtenAt != null && System.nanoTime() - writtenAt < stickyNanos;
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
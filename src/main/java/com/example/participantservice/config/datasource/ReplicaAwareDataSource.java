@@ -0,0 +1,110 @@
+package com.example.participantservice.config.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Connection source for read-only transactions. Serves replica connections unless the current client
+ * wrote recently, or the replica is unreachable or lagging beyond the allowed threshold, in which case
+ * it falls back to the primary.
+ */
+public class ReplicaAwareDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaAwareDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker tracker;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private volatile boolean replicaUsable = true;
+    private volatile double lastLagSeconds;
+
+    public ReplicaAwareDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker,
+                                  Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replica = replica;
+        this.tracker = tracker;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!replicaUsable || tracker.isSticky()) {
+            return opener.open(primary);
+        }
+        try {
+            return opener.open(replica);
+        } catch (SQLException ex) {
+            log.warn("Replica connection failed, routing reads to primary until the next health check: {}", ex.getMessage());
+            replicaUsable = false;
+            return opener.open(primary);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    @Scheduled(fixedDelayString = "${participant.datasource.replica.health-interval:PT10S}")
+    public void checkReplica() {
+        boolean usable;
+        try (Connection connection = replica.getConnection()) {
+            if (lagQuery == null) {
+                usable = connection.isValid(5);
+            } else {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    lastLagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                }
+                usable = lastLagSeconds * 1000 <= maxLag.toMillis();
+            }
+        } catch (SQLException ex) {
+            log.debug("Replica health check failed: {}", ex.getMessage());
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.info("Replica is now {} (lag {}s, allowed {}s)", usable ? "in use" : "bypassed",
+                    lastLagSeconds, maxLag.toSeconds());
+        }
+        replicaUsable = usable;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.participantservice.config.hotkeys;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size frequency sketch. Estimates never undercount; they overcount by at most the total count divided by
+ * the width, with probability improving with depth. Updates are one atomic increment per row and allocate nothing.
+ * Each row picks its column with its own seeded mix of a 64-bit key hash, so keys that share a column in one row
+ * are unlikely to share one in the others.
+ */
+final class CountMinSketch {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long ROW_SEED = 0x9E3779B97F4A7C15L;
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counts;
+
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.mask = this.width - 1;
+        this.counts = new AtomicLongArray(depth * this.width);
+    }
+
+    // Returns the key's estimate after counting it, so callers need no second pass over the rows
+    long add(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(cell(hash, row)));
+        }
+        return estimate;
+    }
+
+    long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.get(cell(hash, row)));
+        }
+        return estimate;
+    }
+
+    private int cell(long hash, int row) {
+        return row * width + ((int) mix(hash + (row + 1) * ROW_SEED) & mask);
+    }
+
+    // Halves every counter; concurrent increments are kept because each cell is halved by compare-and-set
+    void decay() {
+        for (int i = 0; i < counts.length(); i++) {
+            long current;
+            do {
+                current = counts.get(i);
+            } while (current != 0 && !counts.compareAndSet(i, current, current >>> 1));
+        }
+    }
+
+    // 64-bit FNV-1a over the characters; String.hashCode() has only 32 bits and trivially colliding keys ("Aa", "BB")
+    static long hash(String key) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.participantservice.config.hotkeys;
+
+/**
+ * A frequently accessed key and its decayed access count, as estimated by the sketch.
+ */
+public record HotKey(
+    String key,
+    long estimate
+) {}
@@ -0,0 +1,29 @@
+package com.example.participantservice.config.hotkeys;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "participant.hotkeys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyConfig implements WebMvcConfigurer {
+
+    private final HotKeyRegistry registry;
+    private final List<String> pathVariables;
+
+    public HotKeyConfig(HotKeyRegistry registry,
+                        @Value("${participant.hotkeys.path-variables:participantId,programCode}") List<String> pathVariables) {
+        this.registry = registry;
+        this.pathVariables = pathVariables;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new HotKeyInterceptor(registry, pathVariables))
+                .addPathPatterns("/api/participants/**", "/api/programs/**");
+    }
+}
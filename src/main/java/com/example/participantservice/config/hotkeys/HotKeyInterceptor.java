@@ -0,0 +1,46 @@
+package com.example.participantservice.config.hotkeys;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeds {@link HotKeyRegistry} from the URI template variables Spring MVC has already extracted, so tracking
+ * reuses the request's existing strings and adds no allocation to the request path.
+ */
+public class HotKeyInterceptor implements HandlerInterceptor {
+
+    private final HotKeyRegistry registry;
+    private final String[] pathVariables;
+
+    public HotKeyInterceptor(HotKeyRegistry registry, List<String> pathVariables) {
+        this.registry = registry;
+        this.pathVariables = pathVariables.toArray(String[]::new);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (endpoint != null
+                && request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables) {
+            for (String name : pathVariables) {
+                if (variables.get(name) instanceof String key) {
+                    registry.recordEndpointKey(endpoint.toString(), key);
+                }
+            }
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            registry.recordSubject(authentication.getName());
+        }
+        return true;
+    }
+}
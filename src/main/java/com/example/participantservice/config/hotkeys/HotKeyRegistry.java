@@ -0,0 +1,74 @@
+package com.example.participantservice.config.hotkeys;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hot participant IDs and program codes per endpoint, and the busiest JWT subjects. Every tracker is halved
+ * each {@code participant.hotkeys.half-life}, so estimates are exponentially decayed request counts in which
+ * a request one half-life old weighs half as much as one just served.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.hotkeys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyRegistry {
+
+    private final int depth;
+    private final int width;
+    private final int topN;
+    private final Duration halfLife;
+    private final ConcurrentHashMap<String, HotKeyTracker> byEndpoint = new ConcurrentHashMap<>();
+    private final HotKeyTracker bySubject;
+
+    public HotKeyRegistry(@Value("${participant.hotkeys.sketch.depth:4}") int depth,
+                          @Value("${participant.hotkeys.sketch.width:2048}") int width,
+                          @Value("${participant.hotkeys.top-n:10}") int topN,
+                          @Value("${participant.hotkeys.half-life:PT1M}") Duration halfLife) {
+        this.depth = depth;
+        this.width = width;
+        this.topN = topN;
+        this.halfLife = halfLife;
+        this.bySubject = new HotKeyTracker(depth, width, topN);
+    }
+
+    // Endpoints are the handful of mapped URI patterns, so after the first request to each this is a plain get
+    public void recordEndpointKey(String endpoint, String key) {
+        HotKeyTracker tracker = byEndpoint.get(endpoint);
+        if (tracker == null) {
+            tracker = byEndpoint.computeIfAbsent(endpoint, ignored -> new HotKeyTracker(depth, width, topN));
+        }
+        tracker.record(key);
+    }
+
+    public void recordSubject(String subject) {
+        bySubject.record(subject);
+    }
+
+    public long estimate(String endpoint, String key) {
+        HotKeyTracker tracker = byEndpoint.get(endpoint);
+        return tracker == null ? 0 : tracker.estimate(key);
+    }
+
+    @Scheduled(fixedDelayString = "${participant.hotkeys.half-life:PT1M}",
+               initialDelayString = "${participant.hotkeys.half-life:PT1M}")
+    public void decay() {
+        byEndpoint.values().forEach(HotKeyTracker::decay);
+        bySubject.decay();
+    }
+
+    public HotKeysReport report(int limit) {
+        int n = limit > 0 ? limit : topN;
+        Map<String, List<HotKey>> endpoints = new TreeMap<>();
+        byEndpoint.forEach((endpoint, tracker) -> endpoints.put(endpoint, tracker.top(n)));
+        return new HotKeysReport(halfLife, endpoints, bySubject.top(n));
+    }
+
+    public record HotKeysReport(Duration halfLife, Map<String, List<HotKey>> byEndpoint, List<HotKey> bySubject) {}
+}
@@ -0,0 +1,38 @@
+package com.example.participantservice.config.hotkeys;
+
+import java.util.List;
+
+/**
+ * Access counts for one dimension (an endpoint's path variable, or the calling subject): a sketch estimating
+ * every key plus the heavy-hitter candidates it feeds.
+ */
+final class HotKeyTracker {
+
+    // Candidates beyond the reported N absorb churn near the cut-off, so the reported list is steadier
+    private static final int CANDIDATES_PER_REPORTED_KEY = 4;
+
+    private final CountMinSketch sketch;
+    private final TopKeys topKeys;
+
+    HotKeyTracker(int depth, int width, int topN) {
+        this.sketch = new CountMinSketch(depth, width);
+        this.topKeys = new TopKeys(topN * CANDIDATES_PER_REPORTED_KEY);
+    }
+
+    void record(String key) {
+        topKeys.offer(key, sketch.add(CountMinSketch.hash(key)));
+    }
+
+    long estimate(String key) {
+        return sketch.estimate(CountMinSketch.hash(key));
+    }
+
+    void decay() {
+        sketch.decay();
+        topKeys.decay();
+    }
+
+    List<HotKey> top(int limit) {
+        return topKeys.top(limit);
+    }
+}
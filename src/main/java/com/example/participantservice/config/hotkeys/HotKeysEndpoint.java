@@ -0,0 +1,28 @@
+package com.example.participantservice.config.hotkeys;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/hotkeys[?limit=N]}: the most accessed participant IDs and program codes per endpoint,
+ * and the busiest JWT subjects, as decayed request counts.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.hotkeys.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyRegistry registry;
+
+    public HotKeysEndpoint(HotKeyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public HotKeyRegistry.HotKeysReport hotKeys(@Nullable Integer limit) {
+        return registry.report(limit == null ? 0 : limit);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.participantservice.config.hotkeys;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Heavy-hitter candidates fed by a {@link CountMinSketch}. Keys whose estimate is below the smallest tracked count
+ * are rejected with one volatile read, so only a handful of requests per window ever reach the lock, and those
+ * that find it held skip the update rather than wait; a genuinely hot key is offered again on its next hit.
+ */
+final class TopKeys {
+
+    private final String[] keys;
+    private final long[] counts;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int size;
+    private volatile long floor;
+
+    TopKeys(int capacity) {
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+    }
+
+    void offer(String key, long estimate) {
+        if (estimate <= floor || !lock.tryLock()) {
+            return;
+        }
+        try {
+            int min = 0;
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    counts[i] = Math.max(counts[i], estimate);
+                    updateFloor();
+                    return;
+                }
+                if (counts[i] < counts[min]) {
+                    min = i;
+                }
+            }
+            if (size < keys.length) {
+                keys[size] = key;
+                counts[size++] = estimate;
+            } else if (estimate > counts[min]) {
+                keys[min] = key;
+                counts[min] = estimate;
+            }
+            updateFloor();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void decay() {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                counts[i] >>>= 1;
+            }
+            updateFloor();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<HotKey> top(int limit) {
+        List<HotKey> snapshot = new ArrayList<>(size);
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (counts[i] > 0) {
+                    snapshot.add(new HotKey(keys[i], counts[i]));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        snapshot.sort(Comparator.comparingLong(HotKey::estimate).reversed());
+        return snapshot.size() > limit ? List.copyOf(snapshot.subList(0, limit)) : snapshot;
+    }
+
+    // Until the table is full every key is admitted; afterwards only keys that would displace the smallest entry
+    private void updateFloor() {
+        if (size < keys.length) {
+            floor = 0;
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, counts[i]);
+        }
+        floor = min;
+    }
+}
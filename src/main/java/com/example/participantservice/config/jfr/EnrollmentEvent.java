@@ -0,0 +1,25 @@
+package com.example.participantservice.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("participant.Enrollment")
+@Label("Enrollment")
+@Category({"Participant Service", "Enrollment"})
+@Description("One processEnrollment call through the configured enrollment engine")
+@StackTrace(false)
+public final class EnrollmentEvent extends jdk.jfr.Event {
+
+    @Label("Participant ID")
+    public long participantId;
+
+    @Label("Program Code")
+    public String programCode;
+
+    @Label("Outcome")
+    @Description("AppConstants code returned by the engine, or the exception type if it failed")
+    public String outcome;
+}
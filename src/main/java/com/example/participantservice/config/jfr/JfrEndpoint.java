@@ -0,0 +1,169 @@
+package com.example.participantservice.config.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@code /actuator/jfr}: controls one continuous Flight Recorder recording in the running server, so a hotspot
+ * can be captured during an incident without a restart or JVM flags.
+ * <ul>
+ *   <li>{@code GET} reports the recording's state.</li>
+ *   <li>{@code POST /start} starts it with a settings profile ({@code default} or {@code profile}), keeping
+ *       at most {@code maxAge} and {@code maxSize} of data on disk.</li>
+ *   <li>{@code POST /dump} writes what has been recorded so far to a file, leaving the recording running.</li>
+ *   <li>{@code POST /stop} dumps the recording one last time and stops it.</li>
+ * </ul>
+ * Only the newest {@code keep} dump files are left in the directory.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrEndpoint.class);
+
+    private static final String RECORDING_NAME = "participant-service";
+    private static final String SUFFIX = ".jfr";
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final Duration defaultMaxAge;
+    private final DataSize defaultMaxSize;
+    private final Duration eventThreshold;
+    private final int keep;
+    private Recording recording;
+    private String settings;
+    private Path lastDump;
+
+    public JfrEndpoint(@Value("${participant.jfr.directory:${java.io.tmpdir}/participant-jfr}") Path directory,
+                       @Value("${participant.jfr.max-age:PT30M}") Duration defaultMaxAge,
+                       @Value("${participant.jfr.max-size:250MB}") DataSize defaultMaxSize,
+                       @Value("${participant.jfr.event-threshold:PT0.001S}") Duration eventThreshold,
+                       @Value("${participant.jfr.keep:5}") int keep) {
+        this.directory = directory;
+        this.defaultMaxAge = defaultMaxAge;
+        this.defaultMaxSize = defaultMaxSize;
+        this.eventThreshold = eventThreshold;
+        this.keep = Math.max(keep, 1);
+    }
+
+    public record JfrStatus(String state, String settings, Instant startedOn, Duration maxAge, long sizeInBytes, String lastDump) {}
+
+    @ReadOperation
+    public synchronized JfrStatus status() {
+        if (recording == null) {
+            return new JfrStatus(RecordingState.CLOSED.name(), null, null, null, 0, lastDump == null ? null : lastDump.toString());
+        }
+        return new JfrStatus(recording.getState().name(), settings, recording.getStartTime(), recording.getMaxAge(),
+                recording.getSize(), lastDump == null ? null : lastDump.toString());
+    }
+
+    @WriteOperation
+    public synchronized JfrStatus control(@Selector String action, @Nullable String settings, @Nullable Duration maxAge) {
+        switch (action) {
+            case "start" -> start(settings == null ? "default" : settings, maxAge == null ? defaultMaxAge : maxAge);
+            case "dump" -> dump(requireRunning());
+            case "stop" -> {
+                Recording running = requireRunning();
+                dump(running);
+                running.close();
+                recording = null;
+                log.info("Stopped JFR recording; last dump at {}", lastDump);
+            }
+            default -> throw new InvalidEndpointRequestException("Unknown action '" + action + "'; use start, dump or stop",
+                    "Unknown action");
+        }
+        return status();
+    }
+
+    private void start(String settings, Duration maxAge) {
+        if (recording != null) {
+            throw new InvalidEndpointRequestException("A recording is already running; stop it first", "Already running");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            throw new InvalidEndpointRequestException("Unknown settings '" + settings + "'; available: "
+                    + Configuration.getConfigurations().stream().map(Configuration::getName).toList(), "Unknown settings");
+        }
+
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(defaultMaxSize.toBytes());
+        // The JDK profiles do not mention application events, so their thresholds are set here
+        started.enable(EnrollmentEvent.class);
+        started.enable(RepositoryCallEvent.class).withThreshold(eventThreshold);
+        started.enable(MappingEvent.class).withThreshold(eventThreshold);
+        started.start();
+        recording = started;
+        this.settings = settings;
+        log.info("Started JFR recording with '{}' settings, keeping {}", settings, maxAge);
+    }
+
+    private Recording requireRunning() {
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("No recording is running; start one first", "Not running");
+        }
+        return recording;
+    }
+
+    private void dump(Recording running) {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(RECORDING_NAME + "-" + STAMP.format(Instant.now()) + SUFFIX);
+            running.dump(file);
+            lastDump = file;
+            log.info("Dumped JFR recording to {} ({} bytes)", file, Files.size(file));
+            prune();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Newest first; the UTC timestamp in the name sorts chronologically
+    private void prune() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(RECORDING_NAME + "-") && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        }
+        for (Path stale : dumps.subList(Math.min(keep, dumps.size()), dumps.size())) {
+            try {
+                Files.deleteIfExists(stale);
+            } catch (IOException ex) {
+                log.debug("Unable to delete {}: {}", stale, ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.participantservice.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("participant.Mapping")
+@Label("Mapping Batch")
+@Category({"Participant Service", "Mapping"})
+@StackTrace(false)
+public final class MappingEvent extends jdk.jfr.Event {
+
+    @Label("Mapping")
+    public String mapping;
+
+    @Label("Items")
+    public int items;
+}
@@ -0,0 +1,25 @@
+package com.example.participantservice.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("participant.RepositoryCall")
+@Label("Repository Call")
+@Category({"Participant Service", "Repository"})
+@Description("One call through a Spring Data repository, including any SQL it ran")
+@StackTrace(false)
+public final class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Rows returned or updated; -1 when the result is not a row count, a collection or an optional")
+    public long rows;
+}
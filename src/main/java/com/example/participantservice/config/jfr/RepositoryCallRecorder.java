@@ -0,0 +1,52 @@
+package com.example.participantservice.config.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a {@link RepositoryCallEvent} around each repository method. When no recording has the event enabled,
+ * {@code isEnabled()} is false and the call goes straight through.
+ */
+class RepositoryCallRecorder implements MethodInterceptor {
+
+    private final String repository;
+
+    RepositoryCallRecorder(String repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    private static long rows(Object result) {
+        return switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case Integer count -> count;
+            case Long count -> count;
+            case null, default -> -1;
+        };
+    }
+}
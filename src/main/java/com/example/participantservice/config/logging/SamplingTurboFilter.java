@@ -0,0 +1,80 @@
+package com.example.participantservice.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.participantservice.domain.constant.AppConstants.CORRELATION_ID_MDC_KEY;
+
+/**
+ * Logback turbo filter that keeps only a fraction of INFO-and-below events from the configured
+ * logger categories. WARN and ERROR always pass. Inside a request the decision is made from the
+ * correlation ID, so every line of a sampled request is kept together (SQL with its bind
+ * parameters, for example); outside a request each event is sampled independently.
+ * Configured per category group in {@code logback-spring.xml}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final int BUCKETS = 10_000;
+
+    private List<String> loggers = List.of();
+    private double rate = 1.0;
+    private int threshold = BUCKETS;
+
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void start() {
+        threshold = (int) Math.round(Math.clamp(rate, 0.0, 1.0) * BUCKETS);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null || level.isGreaterOrEqual(Level.WARN) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        String correlationId = MDC.get(CORRELATION_ID_MDC_KEY);
+        if (format == null && correlationId == null) {
+            // isXxxEnabled() outside a request, typically cached by a library at startup: sample the events instead
+            return FilterReply.NEUTRAL;
+        }
+        return sampled(correlationId) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String category : loggers) {
+            if (loggerName.startsWith(category)
+                    && (loggerName.length() == category.length() || loggerName.charAt(category.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean sampled(String correlationId) {
+        if (threshold >= BUCKETS) {
+            return true;
+        }
+        int bucket = correlationId != null
+                ? Math.floorMod(correlationId.hashCode(), BUCKETS)
+                : ThreadLocalRandom.current().nextInt(BUCKETS);
+        return bucket < threshold;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.participantservice.config.security;
+
+import com.example.participantservice.config.timing.RequestTiming;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of already-verified tokens keyed by a SHA-256 hash of the raw token.
+ * Entries never outlive the token's {@code exp} claim, nor the configured maximum TTL.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, CachedJwt> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record CachedJwt(Jwt jwt, Instant expiresAt) {}
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration maxTtl, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = RequestTiming.start();
+        try {
+            return decodeCached(token);
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.AUTH, start);
+        }
+    }
+
+    private Jwt decodeCached(String token) {
+        String key = hash(token);
+        Instant now = clock.instant();
+
+        CachedJwt cached = cache.get(key);
+        if (cached != null) {
+            if (now.isBefore(cached.expiresAt())) {
+                hits.increment();
+                return cached.jwt();
+            }
+            cache.remove(key, cached);
+        }
+
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+
+        Instant expiresAt = now.plus(maxTtl);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(expiresAt)) {
+            expiresAt = jwt.getExpiresAt();
+        }
+        if (now.isBefore(expiresAt)) {
+            if (cache.size() >= maxSize) {
+                evict(now);
+            }
+            cache.put(key, new CachedJwt(jwt, expiresAt));
+        }
+        return jwt;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private void evict(Instant now) {
+        cache.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+
+        // Still full of live tokens: drop an arbitrary tenth rather than tracking recency on every hit
+        Iterator<String> keys = cache.keySet().iterator();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        while (cache.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.participantservice.config.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JWK source that keeps the issuer's key set in memory and refreshes it on a background thread,
+ * so signature verification on the request thread never waits on the issuer.
+ */
+public class PrefetchingJwkSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PrefetchingJwkSource.class);
+
+    private static final Duration MIN_ON_DEMAND_INTERVAL = Duration.ofSeconds(30);
+
+    private final URI jwkSetUri;
+    private final Duration refreshInterval;
+    private final RestClient restClient;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>(new JWKSet());
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final AtomicLong lastRefreshNanos = new AtomicLong(System.nanoTime() - MIN_ON_DEMAND_INTERVAL.toNanos());
+
+    public PrefetchingJwkSource(URI jwkSetUri, Duration refreshInterval) {
+        this.jwkSetUri = jwkSetUri;
+        this.refreshInterval = refreshInterval;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(5));
+        requestFactory.setReadTimeout(Duration.ofSeconds(5));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void refresh() {
+        try {
+            String body = restClient.get().uri(jwkSetUri).retrieve().body(String.class);
+            JWKSet keys = JWKSet.parse(body);
+            jwkSet.set(keys);
+            log.debug("Loaded {} signing keys from {}", keys.getKeys().size(), jwkSetUri);
+        } catch (Exception ex) {
+            log.warn("Unable to refresh JWKS from {}: {}", jwkSetUri, ex.getMessage());
+        } finally {
+            lastRefreshNanos.set(System.nanoTime());
+            refreshPending.set(false);
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        List<JWK> keys = jwkSelector.select(jwkSet.get());
+        if (keys.isEmpty()) {
+            // Unknown key id usually means the issuer rotated keys; refresh in the background and fail this token
+            requestRefresh();
+        }
+        return keys;
+    }
+
+    public int keyCount() {
+        return jwkSet.get().getKeys().size();
+    }
+
+    private void requestRefresh() {
+        if (System.nanoTime() - lastRefreshNanos.get() < MIN_ON_DEMAND_INTERVAL.toNanos()) {
+            return;
+        }
+        if (refreshPending.compareAndSet(false, true)) {
+            scheduler.execute(this::refresh);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,21 +1,35 @@
 package com.example.participantservice.config.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${participant.jfr.authority:SCOPE_participant.admin}") String jfrAuthority,
+                                           @Value("${participant.hotkeys.authority:SCOPE_participant.admin}") String hotKeysAuthority) throws Exception {
         http
             .authorizeHttpRequests(auth -> auth
+                    // JFR starts profiling and writes files on the server, so it is limited to administrators
+                    .requestMatchers("/actuator/jfr/**").hasAuthority(jfrAuthority)
+                    // Hot keys list other clients' subjects and traffic, so they are limited to administrators too
+                    .requestMatchers("/actuator/hotkeys/**").hasAuthority(hotKeysAuthority)
                     .requestMatchers("/swagger-ui/**",
                                                "/v3/api-docs/**",
                                                "/actuator/**").permitAll()
@@ -24,4 +38,24 @@ public class SecurityConfig {
             .oauth2ResourceServer(oauth -> oauth.jwt(Customizer.withDefaults()));
         return http.build();
     }
+
+    @Bean
+    public PrefetchingJwkSource jwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") URI jwkSetUri,
+            @Value("${participant.security.jwks.refresh-interval:PT15M}") Duration refreshInterval) {
+        PrefetchingJwkSource jwkSource = new PrefetchingJwkSource(jwkSetUri, refreshInterval);
+        jwkSource.start();
+        return jwkSource;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            PrefetchingJwkSource jwkSource,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${participant.security.jwt-cache.max-size:10000}") int maxSize,
+            @Value("${participant.security.jwt-cache.max-ttl:PT5M}") Duration maxTtl) {
+        NimbusJwtDecoder verifier = NimbusJwtDecoder.withJwkSource(jwkSource).build();
+        verifier.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return new CachingJwtDecoder(verifier, maxSize, maxTtl, Clock.systemUTC());
+    }
 }
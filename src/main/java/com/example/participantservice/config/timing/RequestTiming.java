@@ -0,0 +1,124 @@
+package com.example.participantservice.config.timing;
+
+import java.util.Locale;
+
+/**
+ * Phase durations of one request that asked for a {@code Server-Timing} breakdown. The instance is bound to the
+ * request thread only while timing is on; everywhere else {@link #start()} returns 0 after a thread-local lookup
+ * and {@link #stop} returns at once, so instrumented code costs nothing measurable for ordinary requests.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        AUTH("auth", "JWT decode"),
+        SERVICE("app", "Controller and service"),
+        DB("db", "SQL"),
+        PROCEDURE("proc", "Enrollment engine"),
+        SERIALIZATION("ser", "Response serialization");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private int statements;
+    private long handlerStartedAt;
+    private long bodyWriteStartedAt;
+    private boolean authorized;
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    // Returns 0 when this request is not being timed, which stop() treats as "nothing to record"
+    public static long start() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start == 0L) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    static void statementExecuted(long start) {
+        if (start == 0L) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.statements++;
+            timing.nanos[Phase.DB.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    void handlerStarted(boolean authorized) {
+        this.handlerStartedAt = System.nanoTime();
+        this.authorized = authorized;
+    }
+
+    void bodyWriteStarted() {
+        if (handlerStartedAt != 0L && bodyWriteStartedAt == 0L) {
+            bodyWriteStartedAt = System.nanoTime();
+        }
+    }
+
+    // Splits the handler's time at the point the response body started to be written
+    void handlerCompleted() {
+        if (handlerStartedAt == 0L) {
+            return;
+        }
+        long now = System.nanoTime();
+        long serviceEnd = bodyWriteStartedAt == 0L ? now : bodyWriteStartedAt;
+        nanos[Phase.SERVICE.ordinal()] += serviceEnd - handlerStartedAt;
+        if (bodyWriteStartedAt != 0L) {
+            nanos[Phase.SERIALIZATION.ordinal()] += now - bodyWriteStartedAt;
+        }
+    }
+
+    boolean isAuthorized() {
+        return authorized;
+    }
+
+    String toHeader() {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : Phase.values()) {
+            header.append(phase.metric).append(";dur=").append(millis(nanos[phase.ordinal()]))
+                    .append(";desc=\"").append(phase.description);
+            if (phase == Phase.DB) {
+                header.append(", ").append(statements).append(statements == 1 ? " statement" : " statements");
+            }
+            header.append("\", ");
+        }
+        return header.append("total;dur=").append(millis(System.nanoTime() - startedAt)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.participantservice.config.timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "participant.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private final String requiredAuthority;
+
+    public ServerTimingConfig(@Value("${participant.server-timing.authority:}") String requiredAuthority) {
+        this.requiredAuthority = requiredAuthority;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new ServerTimingInterceptor(requiredAuthority))
+                .addPathPatterns("/api/participants/**");
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.participantservice.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+import static com.example.participantservice.domain.constant.AppConstants.SERVER_TIMING_REQUEST_HEADER;
+
+/**
+ * Times participant API requests that carry {@code X-Server-Timing} and returns the breakdown in a
+ * {@code Server-Timing} header. It wraps the security filter chain, so JWT decoding falls inside the measured
+ * request. The body is buffered because the header is only known once serialization has finished; requests
+ * without the header skip this filter after one header lookup.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "participant.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private static final String SERVER_TIMING = "Server-Timing";
+    private static final String PARTICIPANTS_PATH = "/api/participants";
+    // Streamed from disk and possibly hundreds of megabytes, so never buffered
+    private static final String SNAPSHOT_PATH = "/api/participants/snapshot";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(SERVER_TIMING_REQUEST_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(PARTICIPANTS_PATH) || path.startsWith(SNAPSHOT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            RequestTiming.end();
+            if (timing.isAuthorized()) {
+                String header = timing.toHeader();
+                buffered.setHeader(SERVER_TIMING, header);
+                log.debug("Server timing for {} {} ({}): {}", request.getMethod(), request.getRequestURI(), buffered.getStatus(), header);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.participantservice.config.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks where the handler starts and ends for a timed request, and decides whether the caller may see the
+ * breakdown: any authenticated caller when no authority is configured, otherwise only holders of that authority.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    private final String requiredAuthority;
+
+    public ServerTimingInterceptor(String requiredAuthority) {
+        this.requiredAuthority = requiredAuthority == null || requiredAuthority.isBlank() ? null : requiredAuthority;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.handlerStarted(isAllowed(SecurityContextHolder.getContext().getAuthentication()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.handlerCompleted();
+        }
+    }
+
+    private boolean isAllowed(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+        if (requiredAuthority == null) {
+            return true;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (requiredAuthority.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.participantservice.config.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds each JDBC statement Hibernate executes to the current {@link RequestTiming}. Registered for every session
+ * through {@code hibernate.session.events.auto}; Hibernate creates one instance per session.
+ * Statements issued through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+public class ServerTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = RequestTiming.start();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTiming.statementExecuted(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = RequestTiming.start();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTiming.statementExecuted(batchStart);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.participantservice.controller;
+
+import com.example.participantservice.dto.response.EnrollmentResponse;
+import com.example.participantservice.dto.response.ErrorResponse;
+import com.example.participantservice.dto.response.ParticipantDetailResponse;
+import com.example.participantservice.service.archive.ParticipantArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/participants/archive")
+@Tag(name = "Participant Archive", description = "Lookups of participants and enrollments moved out of the hot tables")
+public class ArchiveController {
+
+    private final ParticipantArchiveService archiveService;
+
+    public ArchiveController(ParticipantArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Operation(
+            summary = "Get an archived participant",
+            description = "Retrieves a participant moved to the archive together with its archived enrollments."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully found the archived participant"),
+            @ApiResponse(responseCode = "404", description = "Participant not in the archive",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{participantId}")
+    public ResponseEntity<ParticipantDetailResponse> getArchivedById(
+            @Parameter(description = "The unique ID of the participant", example = "1")
+            @PathVariable Long participantId) {
+        return ResponseEntity.ok(archiveService.getArchivedById(participantId));
+    }
+
+    @Operation(
+            summary = "Get archived enrollments of a participant",
+            description = "Lists the archived enrollments of a participant, whether or not the participant itself is archived. "
+                    + "The list is empty when nothing has been archived."
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved archived enrollments")
+    @GetMapping("/{participantId}/enrollments")
+    public ResponseEntity<List<EnrollmentResponse>> getArchivedEnrollments(
+            @Parameter(description = "ID of the participant", example = "1")
+            @PathVariable Long participantId) {
+        return ResponseEntity.ok(archiveService.getArchivedEnrollments(participantId));
+    }
+}
@@ -1,11 +1,24 @@
 package com.example.participantservice.controller;
 
 import com.example.participantservice.dto.request.EnrollmentRequest;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.request.ParticipantLookupRequest;
 import com.example.participantservice.dto.request.ParticipantRequest;
+import com.example.participantservice.dto.request.StatusMatch;
+import com.example.participantservice.dto.request.StatusTransitionRequest;
 import com.example.participantservice.dto.response.EnrollmentResponse;
 import com.example.participantservice.dto.response.ErrorResponse;
+import com.example.participantservice.dto.response.ParticipantDetailResponse;
+import com.example.participantservice.dto.response.ParticipantLookupResponse;
 import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.dto.response.ParticipantSearchResponse;
+import com.example.participantservice.dto.response.StatusTransitionResponse;
+import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.service.ParticipantJsonCache;
+import com.example.participantservice.service.ParticipantReadCoalescer;
 import com.example.participantservice.service.ParticipantService;
+import com.example.participantservice.service.StatusTransitionService;
+import com.example.participantservice.service.idempotency.IdempotencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,12 +27,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
+import static com.example.participantservice.domain.constant.AppConstants.IDEMPOTENCY_KEY_HEADER;
 import static org.springframework.http.HttpStatus.CREATED;
 
 @RestController
@@ -28,49 +44,127 @@ import static org.springframework.http.HttpStatus.CREATED;
 public class ParticipantController {
 
     private final ParticipantService participantService;
+    private final ParticipantReadCoalescer participantReadCoalescer;
+    private final IdempotencyService idempotencyService;
+    private final ParticipantJsonCache participantJsonCache;
+    private final StatusTransitionService statusTransitionService;
 
-    public ParticipantController(ParticipantService participantService) {
+    public ParticipantController(ParticipantService participantService,
+                                 ParticipantReadCoalescer participantReadCoalescer,
+                                 IdempotencyService idempotencyService,
+                                 ParticipantJsonCache participantJsonCache,
+                                 StatusTransitionService statusTransitionService) {
         this.participantService = participantService;
+        this.participantReadCoalescer = participantReadCoalescer;
+        this.idempotencyService = idempotencyService;
+        this.participantJsonCache = participantJsonCache;
+        this.statusTransitionService = statusTransitionService;
     }
 
-    @Operation(summary = "Create a new participant")
+    @Operation(summary = "Create a new participant",
+            description = "Retries carrying the same Idempotency-Key replay the first response without creating the participant again.")
     @ApiResponse(responseCode = "201", description = "Participant created successfully")
     @PostMapping()
-    public ResponseEntity<ParticipantResponse> create(@Valid @RequestBody ParticipantRequest participantRequest) {
-        return ResponseEntity.status(CREATED).body(participantService.create(participantRequest));
+    public ResponseEntity<ParticipantResponse> create(
+            @Parameter(description = "Client-chosen key that makes retries of this request safe", example = "5f1c0a2e-create-1")
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody ParticipantRequest participantRequest) {
+        return idempotencyService.execute("createParticipant", idempotencyKey, participantRequest, ParticipantResponse.class,
+                () -> ResponseEntity.status(CREATED).body(participantService.create(participantRequest)));
     }
 
     @Operation(
             summary = "Get all participants",
-            description = "Retrieves a complete list of all participants currently registered in the system."
+            description = "Retrieves a complete list of all participants currently registered in the system. "
+                    + "Use fields to read and return only some columns."
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved all participants")
     @GetMapping
     //@PreAuthorize("hasAuthority('SCOPE_email')")
     //@PreAuthorize("authentication.tokenAttributes['email_verified'] == true")
     @PreAuthorize("authentication.tokenAttributes['email'] != null")
-    public ResponseEntity<List<ParticipantResponse>> getAll(/*org.springframework.security.core.Authentication auth*/) {
+    public ResponseEntity<List<ParticipantResponse>> getAll(/*org.springframework.security.core.Authentication auth*/
+            @Parameter(description = "Comma-separated fields to return; participantId is always included", example = "participantId,enrollmentStatus")
+            @RequestParam(required = false) String fields) {
         //System.out.println(">>> AUTHORITIES: " + auth.getAuthorities());
         //I could have theoretically just returned List<ParticipantDTO>
-        return ResponseEntity.ok(participantService.getAll()
+        return ResponseEntity.ok(participantService.getAll(ParticipantMapper.parseFields(fields))
                 .stream()
                 .toList());
     }
 
+    @Operation(
+            summary = "Get many participants by ID",
+            description = "Retrieves the participants matching the given IDs in request order. IDs with no matching participant are listed in missingIds instead of failing the request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the requested IDs"),
+            @ApiResponse(responseCode = "400", description = "Too many IDs requested",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "ids")
+    @PreAuthorize("authentication.tokenAttributes['email'] != null")
+    public ResponseEntity<ParticipantLookupResponse> getByIds(
+            @Parameter(description = "Comma-separated participant IDs", example = "1,2,3")
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(participantService.getByIds(ids));
+    }
+
+    @Operation(
+            summary = "Look up many participants by ID",
+            description = "Same as the ids query on GET, for ID lists too long to fit in a URL."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the requested IDs"),
+            @ApiResponse(responseCode = "400", description = "Missing or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/lookup")
+    @PreAuthorize("authentication.tokenAttributes['email'] != null")
+    public ResponseEntity<ParticipantLookupResponse> lookup(@Valid @RequestBody ParticipantLookupRequest request) {
+        return ResponseEntity.ok(participantService.getByIds(request.ids()));
+    }
+
     @Operation(
             summary = "Get participant by ID",
             description = "Retrieves detailed information for a single participant using their unique ID."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully found the participant"),
+            @ApiResponse(responseCode = "200", description = "Successfully found the participant",
+                    content = @Content(schema = @Schema(implementation = ParticipantResponse.class))),
             @ApiResponse(responseCode = "404", description = "Participant not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/{participantId}")
-    public ResponseEntity<ParticipantResponse> getById(
+    public ResponseEntity<?> getById(
+            @Parameter(description = "The unique ID of the participant", example = "1")
+            @PathVariable Long participantId,
+            @Parameter(description = "Comma-separated fields to return; participantId is always included", example = "participantId,enrollmentStatus")
+            @RequestParam(required = false) String fields) {
+        Set<ParticipantField> requested = ParticipantMapper.parseFields(fields);
+        if (ParticipantField.isAll(requested)) {
+            // Full representation: write the cached JSON bytes as they are
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(participantJsonCache.getById(participantId));
+        }
+        return ResponseEntity.ok(participantReadCoalescer.getById(participantId, requested));
+    }
+
+    @Operation(
+            summary = "Get participant with all enrollments",
+            description = "Retrieves a participant together with every enrollment and its program details, loaded in a single database round trip."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully found the participant"),
+            @ApiResponse(responseCode = "404", description = "Participant not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{participantId}/full")
+    public ResponseEntity<ParticipantDetailResponse> getDetailById(
             @Parameter(description = "The unique ID of the participant", example = "1")
             @PathVariable Long participantId) {
-        return ResponseEntity.ok(participantService.getById(participantId));
+        return ResponseEntity.ok(participantService.getDetailById(participantId));
     }
 
     @Operation(
@@ -80,6 +174,8 @@ public class ParticipantController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Participant updated successfully"),
             @ApiResponse(responseCode = "404", description = "Participant not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Participant is archived and read-only",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PutMapping("/{participantId}")
@@ -90,6 +186,26 @@ public class ParticipantController {
         return ResponseEntity.ok(participantService.updateById(participantId, participantRequest));
     }
 
+    @Operation(
+            summary = "Move many participants to one status",
+            description = "Selects participants by ID list or by filter and updates them in chunks of set-based statements, "
+                    + "stamping UPDATED_BY and UPDATED_ON. Participants already in the target status are skipped. "
+                    + "With dryRun the affected counts are returned without changing anything."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transition applied, or previewed for a dry run"),
+            @ApiResponse(responseCode = "400", description = "Invalid status, too many IDs, or neither or both of IDs and filter given",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/status-transitions")
+    public ResponseEntity<StatusTransitionResponse> transitionStatus(
+            @Parameter(description = "Client-chosen key that makes retries of this request safe", example = "5f1c0a2e-transition-1")
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody StatusTransitionRequest request) {
+        return idempotencyService.execute("transitionStatus", idempotencyKey, request, StatusTransitionResponse.class,
+                () -> ResponseEntity.ok(statusTransitionService.transition(request)));
+    }
+
     @Operation(
             summary = "Delete a participant",
             description = "Permanently removes a participant record from the system."
@@ -97,6 +213,8 @@ public class ParticipantController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Participant deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Participant not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Participant is archived and read-only",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping("/{participantId}")
@@ -108,7 +226,7 @@ public class ParticipantController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Enroll a participant", description = "Enrolls a participant into a specific program using the provided details.")
+    @Operation(summary = "Enroll a participant", description = "Enrolls a participant into a specific program using the provided details. Retries carrying the same Idempotency-Key replay the first outcome.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully enrolled",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class))),
@@ -122,13 +240,17 @@ public class ParticipantController {
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/enrollments")
-    public ResponseEntity<String> enroll(@RequestBody EnrollmentRequest request) {
-        return ResponseEntity.ok(participantService.processEnrollment(request));
+    public ResponseEntity<String> enroll(
+            @Parameter(description = "Client-chosen key that makes retries of this request safe", example = "5f1c0a2e-enroll-1")
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody EnrollmentRequest request) {
+        return idempotencyService.execute("enrollParticipant", idempotencyKey, request, String.class,
+                () -> ResponseEntity.ok(participantService.processEnrollment(request)));
     }
 
     @Operation(
             summary = "Get active enrollments for a participant",
-            description = "Retrieves all currently active (non-expired) program enrollments for the specified participant ID."
+            description = "Retrieves all currently active program enrollments for the specified participant ID: those not yet expired and those with no expiration date."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved active enrollments"),
@@ -139,22 +261,34 @@ public class ParticipantController {
     public ResponseEntity<List<EnrollmentResponse>> getActiveEnrollments(
             @Parameter(description = "ID of the participant", example = "1")
             @PathVariable Long participantId) {
-        return ResponseEntity.ok(participantService.getActiveEnrollments(participantId)
+        return ResponseEntity.ok(participantReadCoalescer.getActiveEnrollments(participantId)
                 .stream()
                 .toList());
     }
 
     @Operation(summary = "Search participants by status",
-            description = "Returns a list of participants that match the provided status string (case-insensitive)")
+            description = "Returns one page of participants whose status matches any of the given terms, ordered by participant ID. "
+                    + "EXACT and PREFIX match against the canonical statuses (ACTIVE, INACTIVE, PENDING) using the status index; "
+                    + "FUZZY is the legacy case-insensitive substring match, which scans the whole table.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
-            @ApiResponse(responseCode = "400", description = "Invalid status parameter provided")
+            @ApiResponse(responseCode = "400", description = "Invalid status, cursor, page size or fields provided",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/search")
-    public ResponseEntity<List<ParticipantResponse>> findByStatus(
-            @Parameter(description = "Status to filter by (e.g., ACTIVE, INACTIVE)", example = "ACTIVE")
-            @RequestParam(value = "status") String status) {
+    public ResponseEntity<ParticipantSearchResponse> findByStatus(
+            @Parameter(description = "One or more statuses to filter by (e.g., ACTIVE,PENDING)", example = "ACTIVE")
+            @RequestParam(value = "status") List<String> status,
+            @Parameter(description = "How status terms are matched", example = "EXACT")
+            @RequestParam(defaultValue = "EXACT") StatusMatch match,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "100")
+            @RequestParam(defaultValue = "100") int size,
+            @Parameter(description = "Comma-separated fields to return; participantId is always included", example = "participantId,enrollmentStatus")
+            @RequestParam(required = false) String fields) {
 
-        return ResponseEntity.ok(participantService.findByStatus(status));
+        return ResponseEntity.ok(participantReadCoalescer.findByStatus(status, match, cursor, size,
+                ParticipantMapper.parseFields(fields)));
     }
 }
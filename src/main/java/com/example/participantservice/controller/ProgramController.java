@@ -0,0 +1,53 @@
+package com.example.participantservice.controller;
+
+import com.example.participantservice.dto.response.ErrorResponse;
+import com.example.participantservice.dto.response.ProgramRosterResponse;
+import com.example.participantservice.service.ProgramService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/programs")
+@Tag(name = "Program Management", description = "APIs for browsing programs and their enrollments")
+public class ProgramController {
+
+    private final ProgramService programService;
+
+    public ProgramController(ProgramService programService) {
+        this.programService = programService;
+    }
+
+    @Operation(
+            summary = "Get a program's enrolled participants",
+            description = "Returns one page of participants enrolled in the program, ordered by enrollment start date. Pass nextCursor from the previous page to continue."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the roster page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Program not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{programCode}/participants")
+    public ResponseEntity<ProgramRosterResponse> getRoster(
+            @Parameter(description = "Program code", example = "FITNESS")
+            @PathVariable String programCode,
+            @Parameter(description = "Only include enrollments that have not expired; enrollments without an expiration date count as active", example = "true")
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @Parameter(description = "Sort direction on start date", example = "ASC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction sort,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(programService.getRoster(programCode, activeOnly, sort, cursor, size));
+    }
+}
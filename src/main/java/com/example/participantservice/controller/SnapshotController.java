@@ -0,0 +1,128 @@
+package com.example.participantservice.controller;
+
+import com.example.participantservice.dto.response.ErrorResponse;
+import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.service.snapshot.ParticipantSnapshot;
+import com.example.participantservice.service.snapshot.ParticipantSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static com.example.participantservice.domain.constant.AppConstants.SNAPSHOT_NOT_READY;
+
+@RestController
+@RequestMapping("/api/participants/snapshot")
+@Tag(name = "Participant Snapshot", description = "Bulk download of every participant from a precomputed file")
+public class SnapshotController {
+
+    // Tomcat's sendfile contract: the connector copies the file region to the socket in the kernel after the servlet returns
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String GZIP = "application/gzip";
+
+    private final ParticipantSnapshotService snapshotService;
+
+    public SnapshotController(ParticipantSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Operation(
+            summary = "Download all participants",
+            description = "Serves the latest snapshot as a gzip-compressed JSON array of participants, regenerated on a schedule. "
+                    + "The ETag is the snapshot version: send it in If-None-Match to skip unchanged downloads, or in If-Range "
+                    + "with a Range header to resume one."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The whole snapshot",
+                    content = @Content(mediaType = GZIP)),
+            @ApiResponse(responseCode = "206", description = "The requested byte range of the snapshot",
+                    content = @Content(mediaType = GZIP)),
+            @ApiResponse(responseCode = "304", description = "The client's copy is the current version"),
+            @ApiResponse(responseCode = "416", description = "The range lies outside the snapshot"),
+            @ApiResponse(responseCode = "503", description = "No snapshot has been generated yet",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    @PreAuthorize("authentication.tokenAttributes['email'] != null")
+    public void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ParticipantSnapshot snapshot = snapshotService.current()
+                .orElseThrow(() -> new ParticipantException(SNAPSHOT_NOT_READY));
+        if (new ServletWebRequest(request, response).checkNotModified(snapshot.etag(), snapshot.createdOn().toEpochMilli())) {
+            return;
+        }
+
+        long length = snapshot.length();
+        long start = 0;
+        long end = length - 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // A Range whose If-Range names an older version gets the whole current file rather than a mismatched piece
+        if (range != null && (ifRange == null || ifRange.equals(snapshot.etag()))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                // Several ranges are answered with the whole file, which RFC 9110 allows
+                if (ranges.size() == 1) {
+                    start = ranges.getFirst().getRangeStart(length);
+                    end = ranges.getFirst().getRangeEnd(length);
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException ex) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+        }
+
+        response.setContentType(GZIP);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(snapshot.file().getFileName().toString()).build().toString());
+        response.setContentLengthLong(end - start + 1);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, snapshot.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        // Other containers: transferTo copies straight from the file channel in small internal chunks, never the whole file
+        try (FileChannel file = FileChannel.open(snapshot.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
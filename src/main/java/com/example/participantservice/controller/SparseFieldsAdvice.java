@@ -0,0 +1,66 @@
+package com.example.participantservice.controller;
+
+import com.example.participantservice.config.SparseFieldsConfig;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.mapper.ParticipantMapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tools.jackson.databind.ser.FilterProvider;
+
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies the {@code fields=} parameter of participant endpoints to the JSON output, by handing the Jackson
+ * converter a filter for {@code ParticipantResponse}. The service has already narrowed the SELECT to the same fields.
+ */
+@ControllerAdvice(assignableTypes = ParticipantController.class)
+public class SparseFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType)
+                && returnType.getMethod() != null
+                && Arrays.stream(returnType.getMethod().getParameters()).anyMatch(SparseFieldsAdvice::isFieldsParameter);
+    }
+
+    @Override
+    public Map<String, Object> determineWriteHints(Object body, MethodParameter returnType, MediaType contentType,
+                                                   Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        Set<ParticipantField> fields = ParticipantMapper.parseFields(servletAttributes.getRequest().getParameter(FIELDS_PARAMETER));
+        if (ParticipantField.isAll(fields)) {
+            return null;
+        }
+        return Map.of(FilterProvider.class.getName(), SparseFieldsConfig.filterProvider(fields));
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        return body;
+    }
+
+    private static boolean isFieldsParameter(Parameter parameter) {
+        RequestParam param = parameter.getAnnotation(RequestParam.class);
+        return param != null && FIELDS_PARAMETER.equals(param.name().isEmpty() ? parameter.getName() : param.name());
+    }
+}
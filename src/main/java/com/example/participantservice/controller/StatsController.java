@@ -0,0 +1,33 @@
+package com.example.participantservice.controller;
+
+import com.example.participantservice.dto.response.StatsResponse;
+import com.example.participantservice.service.StatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Statistics", description = "APIs for dashboard aggregates")
+public class StatsController {
+
+    private final StatsService statsService;
+
+    public StatsController(StatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    @Operation(
+            summary = "Get participant and enrollment aggregates",
+            description = "Returns participant counts by status and age band and active enrollment counts by program, served from in-memory counters."
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved aggregates")
+    @GetMapping
+    public ResponseEntity<StatsResponse> getStats() {
+        return ResponseEntity.ok(statsService.getStats());
+    }
+}
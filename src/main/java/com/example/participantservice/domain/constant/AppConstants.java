@@ -1,14 +1,44 @@
 package com.example.participantservice.domain.constant;
 
+import java.util.List;
+
 public final class AppConstants {
     private AppConstants() {}
 
+    public static final List<String> PARTICIPANT_STATUSES = List.of("ACTIVE", "INACTIVE", "PENDING");
+
     public static final String SUCCESS = "SUCCESS";
     public static final String RECORD_NOT_FOUND = "RECORD_NOT_FOUND";
+    public static final String PARTICIPANT_ARCHIVED = "PARTICIPANT_ARCHIVED";
     public static final String ALREADY_ENROLLED = "ALREADY_ENROLLED";
     public static final String INELIGIBLE_AGE = "INELIGIBLE_AGE";
 
     public static final String EMAIL_EXISTS = "EMAIL_EXISTS";
+    public static final String LOOKUP_LIMIT_EXCEEDED = "LOOKUP_LIMIT_EXCEEDED";
+    public static final String INVALID_STATUS = "INVALID_STATUS";
+    public static final String INVALID_FIELDS = "INVALID_FIELDS";
+    public static final String INVALID_TRANSITION_SELECTION = "INVALID_TRANSITION_SELECTION";
+
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
+    public static final String INVALID_PAGE_SIZE = "INVALID_PAGE_SIZE";
+
+    public static final int MAX_LOOKUP_IDS = 5000;
+    public static final int MAX_ROSTER_PAGE_SIZE = 500;
+    public static final int MAX_SEARCH_PAGE_SIZE = 500;
+
+    public static final String LOAD_TIMEOUT = "LOAD_TIMEOUT";
+    public static final String SNAPSHOT_NOT_READY = "SNAPSHOT_NOT_READY";
+
+    public static final String IDEMPOTENCY_KEY_INVALID = "IDEMPOTENCY_KEY_INVALID";
+    public static final String IDEMPOTENCY_KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+    public static final String IDEMPOTENCY_REQUEST_IN_PROGRESS = "IDEMPOTENCY_REQUEST_IN_PROGRESS";
+    public static final String IDEMPOTENCY_RESPONSE_UNAVAILABLE = "IDEMPOTENCY_RESPONSE_UNAVAILABLE";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAY_HEADER = "Idempotent-Replayed";
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String CORRELATION_ID_MDC_KEY = "correlationId";
+    public static final String SERVER_TIMING_REQUEST_HEADER = "X-Server-Timing";
 
     public static final String INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
 }
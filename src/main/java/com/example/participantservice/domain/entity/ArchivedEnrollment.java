@@ -0,0 +1,114 @@
+package com.example.participantservice.domain.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * An enrollment moved out of ENROLLMENTS by the archival job, either long expired or belonging to an archived
+ * participant. Keys are plain columns, so an enrollment can be archived while its participant stays hot.
+ */
+@Entity
+@Immutable
+@Table(name = "ENROLLMENTS_ARCHIVE")
+public class ArchivedEnrollment {
+
+    @Id
+    @Column(name = "ENROLLMENT_ID")
+    private Long enrollmentId;
+
+    @Column(name = "PARTICIPANT_ID")
+    private Long participantId;
+
+    @Column(name = "PROGRAM_CODE", length = 20)
+    private String programCode;
+
+    @Column(name = "START_DATE")
+    private LocalDate startDate;
+
+    @Column(name = "EXPIRATION_DATE")
+    private LocalDate expirationDate;
+
+    @Column(name = "CREATED_BY", length = 50)
+    private String createdBy;
+
+    @Column(name = "CREATED_ON")
+    private OffsetDateTime createdOn;
+
+    @Column(name = "UPDATED_BY", length = 50)
+    private String updatedBy;
+
+    @Column(name = "UPDATED_ON")
+    private OffsetDateTime updatedOn;
+
+    @Column(name = "ARCHIVED_ON")
+    private OffsetDateTime archivedOn;
+
+    public ArchivedEnrollment() {}
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public Long getParticipantId() {
+        return participantId;
+    }
+
+    public String getProgramCode() {
+        return programCode;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getExpirationDate() {
+        return expirationDate;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public OffsetDateTime getCreatedOn() {
+        return createdOn;
+    }
+
+    public String getUpdatedBy() {
+        return updatedBy;
+    }
+
+    public OffsetDateTime getUpdatedOn() {
+        return updatedOn;
+    }
+
+    public OffsetDateTime getArchivedOn() {
+        return archivedOn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedEnrollment that = (ArchivedEnrollment) o;
+        return Objects.equals(enrollmentId, that.enrollmentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(enrollmentId);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedEnrollment{" +
+                "enrollmentId=" + enrollmentId +
+                ", participantId=" + participantId +
+                ", programCode='" + programCode + '\'' +
+                ", expirationDate=" + expirationDate +
+                ", archivedOn=" + archivedOn +
+                '}';
+    }
+}
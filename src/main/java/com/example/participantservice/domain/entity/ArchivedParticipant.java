@@ -0,0 +1,120 @@
+package com.example.participantservice.domain.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * A participant moved out of PARTICIPANTS by the archival job. Rows are written only by
+ * {@code ParticipantArchiveService} in SQL and never change afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "PARTICIPANTS_ARCHIVE")
+public class ArchivedParticipant {
+
+    @Id
+    @Column(name = "PARTICIPANT_ID", nullable = false)
+    private Long participantId;
+
+    @Column(name = "FIRST_NAME", length = 50)
+    private String firstName;
+
+    @Column(name = "LAST_NAME", length = 50)
+    private String lastName;
+
+    @Column(name = "EMAIL", length = 100)
+    private String email;
+
+    @Column(name = "DOB")
+    private LocalDate dob;
+
+    @Column(name = "ENROLLMENT_STATUS", length = 20)
+    private String enrollmentStatus;
+
+    @Column(name = "CREATED_BY", length = 50)
+    private String createdBy;
+
+    @Column(name = "CREATED_ON")
+    private OffsetDateTime createdOn;
+
+    @Column(name = "UPDATED_BY", length = 50)
+    private String updatedBy;
+
+    @Column(name = "UPDATED_ON")
+    private OffsetDateTime updatedOn;
+
+    @Column(name = "ARCHIVED_ON")
+    private OffsetDateTime archivedOn;
+
+    public ArchivedParticipant() {}
+
+    public Long getParticipantId() {
+        return participantId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public LocalDate getDob() {
+        return dob;
+    }
+
+    public String getEnrollmentStatus() {
+        return enrollmentStatus;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public OffsetDateTime getCreatedOn() {
+        return createdOn;
+    }
+
+    public String getUpdatedBy() {
+        return updatedBy;
+    }
+
+    public OffsetDateTime getUpdatedOn() {
+        return updatedOn;
+    }
+
+    public OffsetDateTime getArchivedOn() {
+        return archivedOn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedParticipant that = (ArchivedParticipant) o;
+        return Objects.equals(participantId, that.participantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(participantId);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedParticipant {" +
+                "participantId=" + participantId +
+                ", enrollmentStatus='" + enrollmentStatus + '\'' +
+                ", updatedOn=" + updatedOn +
+                ", archivedOn=" + archivedOn +
+                '}';
+    }
+}
@@ -16,7 +16,7 @@ public class Enrollment {
     @Column(name = "ENROLLMENT_ID")
     private Long enrollmentId;
 
-    @Column(name = "START_DATE")
+    @Column(name = "START_DATE", nullable = false)
     private LocalDate startDate;
 
     @Column(name = "EXPIRATION_DATE")
@@ -70,6 +70,11 @@ public class Enrollment {
         this.expirationDate = expirationDate;
     }
 
+    // Open-ended enrollments count as active, matching the roster, stats and archival queries
+    public boolean isActiveOn(LocalDate day) {
+        return expirationDate == null || expirationDate.isAfter(day);
+    }
+
     public String getCreatedBy() {
         return createdBy;
     }
@@ -149,6 +149,21 @@ public class Participant {
         this.enrollments = enrollments;
     }
 
+    // UPDATED_ON versions the row for response caches, so every JPA write stamps it
+    @PrePersist
+    void onCreate() {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (createdOn == null) {
+            createdOn = now;
+        }
+        updatedOn = now;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedOn = OffsetDateTime.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
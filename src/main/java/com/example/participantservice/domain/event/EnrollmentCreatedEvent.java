@@ -0,0 +1,9 @@
+package com.example.participantservice.domain.event;
+
+/**
+ * Published by the service layer after a participant is successfully enrolled in a program.
+ */
+public record EnrollmentCreatedEvent(
+    Long participantId,
+    String programCode
+) {}
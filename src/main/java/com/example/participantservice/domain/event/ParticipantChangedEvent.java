@@ -0,0 +1,30 @@
+package com.example.participantservice.domain.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published by the service layer whenever a participant row is created, updated or deleted.
+ * {@code before} is null for creates and {@code after} is null for deletes.
+ */
+public record ParticipantChangedEvent(
+    Long participantId,
+    ParticipantState before,
+    ParticipantState after,
+    List<String> removedActivePrograms
+) {
+
+    public record ParticipantState(String enrollmentStatus, LocalDate dob) {}
+
+    public static ParticipantChangedEvent created(Long participantId, ParticipantState after) {
+        return new ParticipantChangedEvent(participantId, null, after, List.of());
+    }
+
+    public static ParticipantChangedEvent updated(Long participantId, ParticipantState before, ParticipantState after) {
+        return new ParticipantChangedEvent(participantId, before, after, List.of());
+    }
+
+    public static ParticipantChangedEvent deleted(Long participantId, ParticipantState before, List<String> removedActivePrograms) {
+        return new ParticipantChangedEvent(participantId, before, null, removedActivePrograms);
+    }
+}
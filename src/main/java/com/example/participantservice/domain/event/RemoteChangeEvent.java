@@ -0,0 +1,14 @@
+package com.example.participantservice.domain.event;
+
+/**
+ * Published on this pod when another pod has committed a change, as read from the shared change log.
+ * In-process caches evict {@code key} of {@code entity} when they receive it.
+ */
+public record RemoteChangeEvent(
+    String entity,
+    String key
+) {
+
+    public static final String PARTICIPANT = "PARTICIPANT";
+    public static final String PROGRAM = "PROGRAM";
+}
@@ -0,0 +1,45 @@
+package com.example.participantservice.dto.request;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Allow-list for the {@code fields=} parameter. Each value names both a {@code ParticipantResponse}
+ * component and the {@code Participant} attribute it is read from. PARTICIPANT_ID is always returned.
+ */
+public enum ParticipantField {
+    PARTICIPANT_ID("participantId"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    DOB("dob"),
+    ENROLLMENT_STATUS("enrollmentStatus");
+
+    private final String property;
+
+    ParticipantField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public static Optional<ParticipantField> fromProperty(String property) {
+        for (ParticipantField field : values()) {
+            if (field.property.equals(property)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Set<ParticipantField> all() {
+        return EnumSet.allOf(ParticipantField.class);
+    }
+
+    public static boolean isAll(Set<ParticipantField> fields) {
+        return fields.size() == values().length;
+    }
+}
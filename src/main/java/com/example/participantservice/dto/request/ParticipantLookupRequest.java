@@ -0,0 +1,14 @@
+package com.example.participantservice.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "Request object for fetching many participants by ID in one call")
+public record ParticipantLookupRequest(
+
+        @Schema(description = "Participant IDs to fetch, in the order the results should be returned", example = "[1, 2, 3]")
+        @NotEmpty(message = "At least one participant ID is required")
+        List<Long> ids
+) {}
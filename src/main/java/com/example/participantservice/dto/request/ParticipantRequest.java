@@ -32,8 +32,10 @@ public record ParticipantRequest(
         @Past(message = "Date of birth must be in the past")
         LocalDate dob,
 
-        @Schema(description = "Status for the new enrollment", example = "ACTIVE")
+        @Schema(description = "Status for the new enrollment", example = "ACTIVE", allowableValues = {"ACTIVE", "INACTIVE", "PENDING"})
         @NotBlank(message = "Enrollment status is required")
+        @Pattern(regexp = "\\s*(ACTIVE|INACTIVE|PENDING)\\s*", flags = Pattern.Flag.CASE_INSENSITIVE,
+                message = "Enrollment status must be ACTIVE, INACTIVE or PENDING")
         @Size(max = 20)
         String enrollmentStatus
 ) {}
@@ -0,0 +1,11 @@
+package com.example.participantservice.dto.request;
+
+/**
+ * How status search terms are matched. EXACT and PREFIX resolve terms against the canonical status set
+ * and query with an index-friendly IN list; FUZZY keeps the legacy case-insensitive substring scan.
+ */
+public enum StatusMatch {
+    EXACT,
+    PREFIX,
+    FUZZY
+}
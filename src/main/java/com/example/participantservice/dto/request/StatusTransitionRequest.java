@@ -0,0 +1,42 @@
+package com.example.participantservice.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Schema(description = "Request object for moving many participants to one status. Select participants either by ID or by filter, not both.")
+public record StatusTransitionRequest(
+
+        @Schema(description = "Status every selected participant should end up in", example = "INACTIVE",
+                allowableValues = {"ACTIVE", "INACTIVE", "PENDING"}, requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Target status is required")
+        @Pattern(regexp = "\\s*(ACTIVE|INACTIVE|PENDING)\\s*", flags = Pattern.Flag.CASE_INSENSITIVE,
+                message = "Target status must be ACTIVE, INACTIVE or PENDING")
+        String targetStatus,
+
+        @Schema(description = "Participant IDs to transition", example = "[1, 2, 3]")
+        List<Long> participantIds,
+
+        @Schema(description = "Filter: only participants currently in this status", example = "PENDING",
+                allowableValues = {"ACTIVE", "INACTIVE", "PENDING"})
+        @Pattern(regexp = "\\s*(ACTIVE|INACTIVE|PENDING)\\s*", flags = Pattern.Flag.CASE_INSENSITIVE,
+                message = "Current status must be ACTIVE, INACTIVE or PENDING")
+        String currentStatus,
+
+        @Schema(description = "Filter: only participants created before this instant", example = "2024-01-01T00:00:00Z")
+        OffsetDateTime createdBefore,
+
+        @Schema(description = "Count the participants that would change without updating them", example = "true")
+        Boolean dryRun
+) {
+
+    public boolean isDryRun() {
+        return Boolean.TRUE.equals(dryRun);
+    }
+
+    public boolean hasFilter() {
+        return currentStatus != null || createdBefore != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Participant aggregate with every enrollment and its program details")
+public record ParticipantDetailResponse(
+
+    @Schema(description = "Participant details")
+    ParticipantResponse participant,
+
+    @Schema(description = "All enrollments of the participant, active and expired, ordered by start date")
+    List<EnrollmentResponse> enrollments
+) {}
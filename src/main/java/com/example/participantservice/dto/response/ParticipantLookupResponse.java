@@ -0,0 +1,15 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Participants found for a multi-get request, plus the requested IDs that do not exist")
+public record ParticipantLookupResponse(
+
+    @Schema(description = "Participants found, in the order they were requested")
+    List<ParticipantResponse> participants,
+
+    @Schema(description = "Requested IDs with no matching participant", example = "[42]")
+    List<Long> missingIds
+) {}
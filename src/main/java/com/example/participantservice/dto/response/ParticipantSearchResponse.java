@@ -0,0 +1,15 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of participants matching a status search")
+public record ParticipantSearchResponse(
+
+    @Schema(description = "Matching participants on this page, ordered by participant ID")
+    List<ParticipantResponse> participants,
+
+    @Schema(description = "Opaque cursor for the next page; null when this is the last page")
+    String nextCursor
+) {}
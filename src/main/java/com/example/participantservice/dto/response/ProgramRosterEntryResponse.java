@@ -0,0 +1,30 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "A participant enrolled in a program, with the enrollment dates")
+public record ProgramRosterEntryResponse(
+
+    @Schema(description = "The unique identifier of the enrollment", example = "10")
+    Long enrollmentId,
+
+    @Schema(description = "The unique identifier of the participant", example = "1")
+    Long participantId,
+
+    @Schema(description = "The first name of the participant", example = "Mark")
+    String firstName,
+
+    @Schema(description = "The last name of the participant", example = "Lindros")
+    String lastName,
+
+    @Schema(description = "Current lifecycle status of the participant", example = "ACTIVE")
+    String enrollmentStatus,
+
+    @Schema(description = "Enrollment start date", example = "2025-01-15")
+    LocalDate startDate,
+
+    @Schema(description = "Enrollment expiration date", example = "2026-01-15")
+    LocalDate expirationDate
+) {}
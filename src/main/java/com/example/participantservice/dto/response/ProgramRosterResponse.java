@@ -0,0 +1,18 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of a program's enrolled participants")
+public record ProgramRosterResponse(
+
+    @Schema(description = "Program code", example = "FITNESS")
+    String programCode,
+
+    @Schema(description = "Enrolled participants on this page, ordered by start date")
+    List<ProgramRosterEntryResponse> participants,
+
+    @Schema(description = "Opaque cursor for the next page; null when this is the last page")
+    String nextCursor
+) {}
@@ -0,0 +1,22 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+@Schema(description = "Participant and enrollment aggregates maintained in memory")
+public record StatsResponse(
+
+    @Schema(description = "Participant counts keyed by enrollment status", example = "{\"ACTIVE\": 120, \"PENDING\": 8}")
+    Map<String, Long> participantsByStatus,
+
+    @Schema(description = "Active enrollment counts (not expired, or with no expiration date) keyed by program code", example = "{\"FITNESS\": 42}")
+    Map<String, Long> activeEnrollmentsByProgram,
+
+    @Schema(description = "Participant counts keyed by age band", example = "{\"18-24\": 15, \"65+\": 3}")
+    Map<String, Long> participantsByAgeBand,
+
+    @Schema(description = "When the counters were last reconciled against the database; null until first seeded")
+    OffsetDateTime lastReconciledOn
+) {}
@@ -0,0 +1,21 @@
+package com.example.participantservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Outcome of a bulk status transition, or its preview when dryRun was set")
+public record StatusTransitionResponse(
+
+    @Schema(description = "Status the participants were moved to", example = "INACTIVE")
+    String targetStatus,
+
+    @Schema(description = "True when nothing was updated and the counts are a preview", example = "false")
+    boolean dryRun,
+
+    @Schema(description = "Participants changed (or that would change); those already in the target status are not counted", example = "1250")
+    long affected,
+
+    @Schema(description = "Affected participants broken down by the status they were in before", example = "{\"PENDING\": 1200, \"ACTIVE\": 50}")
+    Map<String, Long> affectedByPreviousStatus
+) {}
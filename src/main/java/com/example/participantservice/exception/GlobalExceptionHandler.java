@@ -1,5 +1,6 @@
 package com.example.participantservice.exception;
 
+import com.example.participantservice.dto.request.ParticipantField;
 import com.example.participantservice.dto.response.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 
 import static com.example.participantservice.domain.constant.AppConstants.*;
 
@@ -42,10 +44,112 @@ public class GlobalExceptionHandler {
                 message = "Participant not found";
                 yield HttpStatus.NOT_FOUND;
             }
+            case PARTICIPANT_ARCHIVED -> {
+                message = "Participant is archived and read-only";
+                yield HttpStatus.CONFLICT;
+            }
             case EMAIL_EXISTS -> {
                 message = "Email already exists for participant";
                 yield HttpStatus.CONFLICT;
             }
+            case INVALID_STATUS -> {
+                message = "Status must be one of " + PARTICIPANT_STATUSES + "; use match=PREFIX or match=FUZZY for partial terms";
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case INVALID_FIELDS -> {
+                message = "Fields must be a comma-separated subset of " + Arrays.stream(ParticipantField.values()).map(ParticipantField::property).toList();
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case INVALID_TRANSITION_SELECTION -> {
+                message = "Select participants either by participantIds or by a filter (currentStatus, createdBefore), not both";
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case INVALID_CURSOR -> {
+                message = "Cursor is not valid for this listing";
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case INVALID_PAGE_SIZE -> {
+                message = "Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE;
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case LOAD_TIMEOUT -> {
+                message = "Timed out waiting for the participant data to load. Please retry.";
+                yield HttpStatus.SERVICE_UNAVAILABLE;
+            }
+            case SNAPSHOT_NOT_READY -> {
+                message = "The participant snapshot has not been generated yet. Please retry later.";
+                yield HttpStatus.SERVICE_UNAVAILABLE;
+            }
+            case LOOKUP_LIMIT_EXCEEDED -> {
+                message = "Too many participant IDs requested; the limit is " + MAX_LOOKUP_IDS;
+                yield HttpStatus.BAD_REQUEST;
+            }
+            default -> {
+                message = "An unexpected error occurred. Please contact support.";
+                yield HttpStatus.INTERNAL_SERVER_ERROR;
+            }
+        };
+
+        var error = new ErrorResponse(
+                ex.getMessage(),
+                message,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @ExceptionHandler(ProgramException.class)
+    public ResponseEntity<ErrorResponse> handleProgramException(ProgramException ex) {
+        String message;
+        var status = switch(ex.getMessage()) {
+            case RECORD_NOT_FOUND -> {
+                message = "Program not found";
+                yield HttpStatus.NOT_FOUND;
+            }
+            case INVALID_CURSOR -> {
+                message = "Cursor is not valid for this listing";
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case INVALID_PAGE_SIZE -> {
+                message = "Page size must be between 1 and " + MAX_ROSTER_PAGE_SIZE;
+                yield HttpStatus.BAD_REQUEST;
+            }
+            default -> {
+                message = "An unexpected error occurred. Please contact support.";
+                yield HttpStatus.INTERNAL_SERVER_ERROR;
+            }
+        };
+
+        var error = new ErrorResponse(
+                ex.getMessage(),
+                message,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @ExceptionHandler(IdempotencyException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyException(IdempotencyException ex) {
+        String message;
+        var status = switch(ex.getMessage()) {
+            case IDEMPOTENCY_KEY_INVALID -> {
+                message = "Idempotency-Key must be between 1 and 255 characters";
+                yield HttpStatus.BAD_REQUEST;
+            }
+            case IDEMPOTENCY_KEY_REUSED -> {
+                message = "Idempotency-Key was already used with a different request body";
+                yield HttpStatus.UNPROCESSABLE_CONTENT;
+            }
+            case IDEMPOTENCY_REQUEST_IN_PROGRESS -> {
+                message = "A request with this Idempotency-Key is still being processed. Please retry.";
+                yield HttpStatus.CONFLICT;
+            }
+            case IDEMPOTENCY_RESPONSE_UNAVAILABLE -> {
+                message = "The request with this Idempotency-Key was completed, but its response could not be stored";
+                yield HttpStatus.CONFLICT;
+            }
             default -> {
                 message = "An unexpected error occurred. Please contact support.";
                 yield HttpStatus.INTERNAL_SERVER_ERROR;
@@ -0,0 +1,7 @@
+package com.example.participantservice.exception;
+
+public class IdempotencyException extends RuntimeException {
+    public IdempotencyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.participantservice.exception;
+
+public class ProgramException extends RuntimeException {
+    public ProgramException(String message) {
+        super(message);
+    }
+}
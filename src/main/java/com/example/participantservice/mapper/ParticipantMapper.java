@@ -1,10 +1,19 @@
 package com.example.participantservice.mapper;
 
+import com.example.participantservice.domain.entity.ArchivedParticipant;
 import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.dto.request.ParticipantField;
 import com.example.participantservice.dto.request.ParticipantRequest;
 import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.exception.ParticipantException;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.example.participantservice.domain.constant.AppConstants.INVALID_FIELDS;
+
 @Component
 public class ParticipantMapper {
 
@@ -19,7 +28,7 @@ public class ParticipantMapper {
         participant.setLastName(request.lastName());
         participant.setEmail(request.email());
         participant.setDob(request.dob());
-        participant.setEnrollmentStatus(request.enrollmentStatus());
+        participant.setEnrollmentStatus(normalizeStatus(request.enrollmentStatus()));
 
         return participant;
     }
@@ -33,7 +42,7 @@ public class ParticipantMapper {
         existingEntity.setLastName(request.lastName());
         existingEntity.setEmail(request.email());
         existingEntity.setDob(request.dob());
-        existingEntity.setEnrollmentStatus(request.enrollmentStatus());
+        existingEntity.setEnrollmentStatus(normalizeStatus(request.enrollmentStatus()));
     }
 
     public ParticipantResponse toResponse(Participant entity) {
@@ -49,4 +58,36 @@ public class ParticipantMapper {
             entity.getDob(),
             entity.getEnrollmentStatus());
     }
+
+    public ParticipantResponse toResponse(ArchivedParticipant entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return new ParticipantResponse(
+            entity.getParticipantId(),
+            entity.getFirstName(),
+            entity.getLastName(),
+            entity.getEmail(),
+            entity.getDob(),
+            entity.getEnrollmentStatus());
+    }
+
+    // Parses the fields= parameter against the allow-list; a missing parameter means every field
+    public static Set<ParticipantField> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ParticipantField.all();
+        }
+        Set<ParticipantField> parsed = EnumSet.of(ParticipantField.PARTICIPANT_ID);
+        for (String property : fields.split(",")) {
+            parsed.add(ParticipantField.fromProperty(property.trim())
+                    .orElseThrow(() -> new ParticipantException(INVALID_FIELDS)));
+        }
+        return parsed;
+    }
+
+    // Statuses are stored in canonical upper case so searches can use equality on an index
+    public static String normalizeStatus(String status) {
+        return status == null ? null : status.trim().toUpperCase(Locale.ROOT);
+    }
 }
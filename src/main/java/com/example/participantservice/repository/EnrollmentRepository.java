@@ -1,9 +1,58 @@
 package com.example.participantservice.repository;
 
 import com.example.participantservice.domain.entity.Enrollment;
+import com.example.participantservice.dto.response.ProgramRosterEntryResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    // Keyset pages over (START_DATE, ENROLLMENT_ID) served by IDX_ENROLLMENTS_PROGRAM_START; never touches ProgramType.enrollments.
+    // START_DATE is NOT NULL, so every enrollment lands on exactly one page
+    @Query("""
+           select new com.example.participantservice.dto.response.ProgramRosterEntryResponse(
+                  e.enrollmentId, p.participantId, p.firstName, p.lastName, p.enrollmentStatus, e.startDate, e.expirationDate)
+           from Enrollment e join e.participant p
+           where e.programType.programCode = :programCode
+             and (:activeOnly = false or e.expirationDate is null or e.expirationDate > :today)
+             and (e.startDate > :afterStartDate or (e.startDate = :afterStartDate and e.enrollmentId > :afterEnrollmentId))
+           order by e.startDate asc, e.enrollmentId asc
+           """)
+    public List<ProgramRosterEntryResponse> findRosterAscending(@Param("programCode") String programCode,
+                                                                @Param("activeOnly") boolean activeOnly,
+                                                                @Param("today") LocalDate today,
+                                                                @Param("afterStartDate") LocalDate afterStartDate,
+                                                                @Param("afterEnrollmentId") Long afterEnrollmentId,
+                                                                Limit limit);
+
+    @Query("""
+           select new com.example.participantservice.dto.response.ProgramRosterEntryResponse(
+                  e.enrollmentId, p.participantId, p.firstName, p.lastName, p.enrollmentStatus, e.startDate, e.expirationDate)
+           from Enrollment e join e.participant p
+           where e.programType.programCode = :programCode
+             and (:activeOnly = false or e.expirationDate is null or e.expirationDate > :today)
+             and (e.startDate < :beforeStartDate or (e.startDate = :beforeStartDate and e.enrollmentId < :beforeEnrollmentId))
+           order by e.startDate desc, e.enrollmentId desc
+           """)
+    public List<ProgramRosterEntryResponse> findRosterDescending(@Param("programCode") String programCode,
+                                                                 @Param("activeOnly") boolean activeOnly,
+                                                                 @Param("today") LocalDate today,
+                                                                 @Param("beforeStartDate") LocalDate beforeStartDate,
+                                                                 @Param("beforeEnrollmentId") Long beforeEnrollmentId,
+                                                                 Limit limit);
+
+    @Query("""
+           select new com.example.participantservice.repository.GroupCount(e.programType.programCode, count(e))
+           from Enrollment e
+           where e.expirationDate is null or e.expirationDate > :today
+           group by e.programType.programCode
+           """)
+    public List<GroupCount> countActiveByProgram(@Param("today") LocalDate today);
 }
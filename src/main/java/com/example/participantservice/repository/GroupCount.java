@@ -0,0 +1,9 @@
+package com.example.participantservice.repository;
+
+/**
+ * Row of a {@code GROUP BY} aggregate query: the grouping key and its row count.
+ */
+public record GroupCount(
+    Object key,
+    Long count
+) {}
@@ -0,0 +1,25 @@
+package com.example.participantservice.repository;
+
+import com.example.participantservice.domain.entity.ArchivedParticipant;
+import com.example.participantservice.dto.response.EnrollmentResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Reads of the archive tables; rows are moved in by ParticipantArchiveService and never updated
+@Repository
+public interface ParticipantArchiveRepository extends JpaRepository<ArchivedParticipant, Long> {
+
+    // Program details come from the live PROGRAM_TYPES table; archived enrollments keep only the code
+    @Query("""
+           select new com.example.participantservice.dto.response.EnrollmentResponse(
+               e.enrollmentId, e.startDate, e.expirationDate, t.programName, e.programCode, t.eligibilityAge)
+           from ArchivedEnrollment e left join ProgramType t on t.programCode = e.programCode
+           where e.participantId = :participantId
+           order by e.startDate, e.enrollmentId
+           """)
+    public List<EnrollmentResponse> findEnrollments(@Param("participantId") Long participantId);
+}
@@ -0,0 +1,21 @@
+package com.example.participantservice.repository;
+
+import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset reads: selects only the requested columns, in participant ID order.
+ * Components that were not requested are left null in the returned responses.
+ */
+public interface ParticipantFieldsRepository {
+
+    public List<ParticipantResponse> findFields(PredicateSpecification<Participant> specification,
+                                                Set<ParticipantField> fields,
+                                                Limit limit);
+}
@@ -0,0 +1,63 @@
+package com.example.participantservice.repository;
+
+import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.participantservice.dto.request.ParticipantField.*;
+
+class ParticipantFieldsRepositoryImpl implements ParticipantFieldsRepository {
+
+    private final EntityManager entityManager;
+
+    ParticipantFieldsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ParticipantResponse> findFields(PredicateSpecification<Participant> specification,
+                                                Set<ParticipantField> fields,
+                                                Limit limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Participant> participant = query.from(Participant.class);
+
+        List<Selection<?>> columns = fields.stream()
+                .<Selection<?>>map(field -> participant.get(field.property()).alias(field.property()))
+                .toList();
+        query.multiselect(columns)
+                .where(specification.toPredicate(participant, criteriaBuilder))
+                .orderBy(criteriaBuilder.asc(participant.get(PARTICIPANT_ID.property())));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery.getResultList().stream()
+                .map(row -> new ParticipantResponse(
+                        value(row, fields, PARTICIPANT_ID, Long.class),
+                        value(row, fields, FIRST_NAME, String.class),
+                        value(row, fields, LAST_NAME, String.class),
+                        value(row, fields, EMAIL, String.class),
+                        value(row, fields, DOB, LocalDate.class),
+                        value(row, fields, ENROLLMENT_STATUS, String.class)))
+                .toList();
+    }
+
+    private static <T> T value(Tuple row, Set<ParticipantField> fields, ParticipantField field, Class<T> type) {
+        return fields.contains(field) ? row.get(field.property(), type) : null;
+    }
+}
@@ -1,16 +1,26 @@
 package com.example.participantservice.repository;
 
 import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.query.Procedure;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ParticipantRepository extends JpaRepository<Participant, Long> {
+public interface ParticipantRepository extends JpaRepository<Participant, Long>, ParticipantFieldsRepository {
 
     @Procedure(name = "Participant.enroll")
     public String enrollParticipant(
@@ -21,8 +31,113 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
 
     public boolean existsByEmail(String email);
 
+    // Equality on canonical statuses, served by IDX_PARTICIPANTS_STATUS_ID in participant ID order
     @Query("""
-           select p from Participant p where lower(p.enrollmentStatus) like lower(concat('%', :status, '%'))
+           select p from Participant p
+           where p.enrollmentStatus in :statuses and p.participantId > :afterId
+           order by p.participantId
            """)
-    public List<Participant> findByStatus(@Param("status") String status);
+    public List<Participant> findByStatusIn(@Param("statuses") Collection<String> statuses,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    // Legacy substring match; cannot use an index and scans PARTICIPANTS, so only reachable via match=FUZZY
+    @Query("""
+           select p from Participant p
+           where lower(p.enrollmentStatus) like lower(concat('%', :status, '%')) and p.participantId > :afterId
+           order by p.participantId
+           """)
+    public List<Participant> findByStatusContaining(@Param("status") String status,
+                                                    @Param("afterId") Long afterId,
+                                                    Limit limit);
+
+    // Next chunk of a filtered status transition in participant ID order; an absent filter parameter matches all rows
+    @Query("""
+           select new com.example.participantservice.repository.ParticipantStatusRow(p.participantId, p.enrollmentStatus, p.dob)
+           from Participant p
+           where (p.enrollmentStatus is null or p.enrollmentStatus <> :targetStatus)
+             and (:currentStatus is null or p.enrollmentStatus = :currentStatus)
+             and (:createdBefore is null or p.createdOn < :createdBefore)
+             and p.participantId > :afterId
+           order by p.participantId
+           """)
+    public List<ParticipantStatusRow> findTransitionCandidates(@Param("targetStatus") String targetStatus,
+                                                               @Param("currentStatus") String currentStatus,
+                                                               @Param("createdBefore") OffsetDateTime createdBefore,
+                                                               @Param("afterId") Long afterId,
+                                                               Limit limit);
+
+    @Query("""
+           select new com.example.participantservice.repository.ParticipantStatusRow(p.participantId, p.enrollmentStatus, p.dob)
+           from Participant p
+           where (p.enrollmentStatus is null or p.enrollmentStatus <> :targetStatus) and p.participantId in :ids
+           """)
+    public List<ParticipantStatusRow> findTransitionCandidatesIn(@Param("targetStatus") String targetStatus,
+                                                                 @Param("ids") Collection<Long> ids);
+
+    @Query("""
+           select new com.example.participantservice.repository.GroupCount(p.enrollmentStatus, count(p))
+           from Participant p
+           where (p.enrollmentStatus is null or p.enrollmentStatus <> :targetStatus)
+             and (:currentStatus is null or p.enrollmentStatus = :currentStatus)
+             and (:createdBefore is null or p.createdOn < :createdBefore)
+           group by p.enrollmentStatus
+           """)
+    public List<GroupCount> countTransitionCandidates(@Param("targetStatus") String targetStatus,
+                                                      @Param("currentStatus") String currentStatus,
+                                                      @Param("createdBefore") OffsetDateTime createdBefore);
+
+    @Query("""
+           select new com.example.participantservice.repository.GroupCount(p.enrollmentStatus, count(p))
+           from Participant p
+           where (p.enrollmentStatus is null or p.enrollmentStatus <> :targetStatus) and p.participantId in :ids
+           group by p.enrollmentStatus
+           """)
+    public List<GroupCount> countTransitionCandidatesIn(@Param("targetStatus") String targetStatus,
+                                                        @Param("ids") Collection<Long> ids);
+
+    // Bulk JPQL skips entity callbacks, so UPDATED_ON is stamped here rather than by Participant.onUpdate
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+           update Participant p
+           set p.enrollmentStatus = :targetStatus, p.updatedBy = :updatedBy, p.updatedOn = :updatedOn
+           where p.participantId in :ids and (p.enrollmentStatus is null or p.enrollmentStatus <> :targetStatus)
+           """)
+    public int updateStatus(@Param("ids") Collection<Long> ids,
+                            @Param("targetStatus") String targetStatus,
+                            @Param("updatedBy") String updatedBy,
+                            @Param("updatedOn") OffsetDateTime updatedOn);
+
+    // Constructor projection: rows never enter the persistence context, so streaming every participant keeps heap flat
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+           select new com.example.participantservice.dto.response.ParticipantResponse(
+               p.participantId, p.firstName, p.lastName, p.email, p.dob, p.enrollmentStatus)
+           from Participant p
+           order by p.participantId
+           """)
+    public Stream<ParticipantResponse> streamAllResponses();
+
+    @Query("""
+           select p from Participant p
+           left join fetch p.enrollments e
+           left join fetch e.programType
+           where p.participantId = :participantId
+           order by e.startDate
+           """)
+    public Optional<Participant> findWithEnrollmentsById(@Param("participantId") Long participantId);
+
+    @Query("""
+           select new com.example.participantservice.repository.GroupCount(p.enrollmentStatus, count(p))
+           from Participant p
+           group by p.enrollmentStatus
+           """)
+    public List<GroupCount> countByStatus();
+
+    @Query("""
+           select new com.example.participantservice.repository.GroupCount(extract(year from p.dob), count(p))
+           from Participant p
+           group by extract(year from p.dob)
+           """)
+    public List<GroupCount> countByBirthYear();
 }
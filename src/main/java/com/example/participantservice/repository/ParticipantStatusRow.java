@@ -0,0 +1,12 @@
+package com.example.participantservice.repository;
+
+import java.time.LocalDate;
+
+/**
+ * The columns a status change needs to report: enough to publish a change event without loading the entity.
+ */
+public record ParticipantStatusRow(
+    Long participantId,
+    String enrollmentStatus,
+    LocalDate dob
+) {}
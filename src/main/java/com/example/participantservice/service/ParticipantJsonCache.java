@@ -0,0 +1,160 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.RemoteChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@code GET /api/participants/{id}} bodies as already-encoded JSON, so hot participants skip
+ * mapping and serialization. Entries carry the row's UPDATED_ON and a newer version always wins; committed
+ * writes through {@link ParticipantService} evict the participant, and writes on other pods arrive as
+ * {@link RemoteChangeEvent}s. Like {@link ParticipantReadCoalescer} it sits
+ * outside the transactional proxy, and concurrent misses for one participant share a single load.
+ */
+@Service
+public class ParticipantJsonCache {
+
+    // Approximate per-entry cost beyond the JSON itself: map node, key, entry record and array header
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ParticipantService participantService;
+    private final JsonMapper jsonMapper;
+    private final long maxBytes;
+    private final SingleFlight<Long, Entry> loads;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    private record Entry(OffsetDateTime updatedOn, byte[] json) {
+
+        long footprint() {
+            return json.length + ENTRY_OVERHEAD_BYTES;
+        }
+
+        boolean isNewerThan(Entry other) {
+            return other.updatedOn() == null || (updatedOn != null && !updatedOn.isBefore(other.updatedOn()));
+        }
+    }
+
+    public ParticipantJsonCache(ParticipantService participantService,
+                                JsonMapper jsonMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${participant.json-cache.max-size:16MB}") DataSize maxSize,
+                                @Value("${participant.coalescing.timeout:PT5S}") Duration timeout) {
+        this.participantService = participantService;
+        this.jsonMapper = jsonMapper;
+        this.maxBytes = maxSize.toBytes();
+        this.loads = new SingleFlight<>("getByIdJson", timeout, meterRegistry);
+        this.hits = Counter.builder("participant.json.cache.requests").tag("result", "hit")
+                .description("Participant reads served from pre-serialized JSON")
+                .register(meterRegistry);
+        this.misses = Counter.builder("participant.json.cache.requests").tag("result", "miss")
+                .description("Participant reads that loaded and serialized the participant")
+                .register(meterRegistry);
+        Gauge.builder("participant.json.cache.size", bytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("Approximate heap held by cached participant JSON")
+                .register(meterRegistry);
+        Gauge.builder("participant.json.cache.entries", entries, Map::size)
+                .description("Participants with cached JSON")
+                .register(meterRegistry);
+    }
+
+    public byte[] getById(Long participantId) {
+        Entry cached = entries.get(participantId);
+        if (cached != null) {
+            hits.increment();
+            return cached.json();
+        }
+
+        misses.increment();
+        // A write committed while we load bumps this, and the possibly stale result is served but not cached
+        long invalidationsBefore = invalidations.get();
+        Entry loaded = loads.execute(participantId, () -> {
+            VersionedParticipant versioned = participantService.getVersionedById(participantId);
+            return new Entry(versioned.updatedOn(), jsonMapper.writeValueAsBytes(versioned.participant()));
+        });
+        put(participantId, loaded, invalidationsBefore);
+        return loaded.json();
+    }
+
+    @TransactionalEventListener
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        evict(event.participantId());
+    }
+
+    // Changes committed on other pods, read from the shared change log by ChangeLogPoller
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (RemoteChangeEvent.PARTICIPANT.equals(event.entity())) {
+            evict(Long.valueOf(event.key()));
+        }
+    }
+
+    public long sizeInBytes() {
+        return bytes.get();
+    }
+
+    private void evict(Long participantId) {
+        invalidations.incrementAndGet();
+        Entry removed = entries.remove(participantId);
+        if (removed != null) {
+            bytes.addAndGet(-removed.footprint());
+        }
+    }
+
+    // The invalidation check runs inside compute, under the key's lock: an evict that bumped the counter first
+    // makes us skip the put, and one that bumps it afterwards blocks on that lock and removes what we inserted
+    private void put(Long participantId, Entry entry, long invalidationsBefore) {
+        if (entry.footprint() > maxBytes / 10) {
+            return;
+        }
+        Entry[] replaced = new Entry[1];
+        Entry current = entries.compute(participantId, (key, existing) -> {
+            if (invalidations.get() != invalidationsBefore) {
+                return existing;
+            }
+            if (existing == null || entry.isNewerThan(existing)) {
+                replaced[0] = existing;
+                return entry;
+            }
+            return existing;
+        });
+        if (current != entry) {
+            return;
+        }
+        bytes.addAndGet(entry.footprint() - (replaced[0] != null ? replaced[0].footprint() : 0));
+        if (bytes.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    // Over budget: drop arbitrary entries down to 90% rather than tracking recency on every hit
+    private void evict() {
+        long target = maxBytes - maxBytes / 10;
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (bytes.get() > target && iterator.hasNext()) {
+            Map.Entry<Long, Entry> next = iterator.next();
+            if (entries.remove(next.getKey(), next.getValue())) {
+                bytes.addAndGet(-next.getValue().footprint());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.config.datasource.ReadYourWritesTracker;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.request.StatusMatch;
+import com.example.participantservice.dto.response.EnrollmentResponse;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.dto.response.ParticipantSearchResponse;
+import com.example.participantservice.mapper.ParticipantMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer in front of the hot {@link ParticipantService} reads. It sits outside the
+ * transactional proxy so coalesced callers never open a transaction or borrow a pool connection.
+ * Callers inside their read-your-writes window load on their own, since a shared load may have
+ * been served by the replica.
+ */
+@Service
+public class ParticipantReadCoalescer {
+
+    private final ParticipantService participantService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final SingleFlight<ByIdRead, ParticipantResponse> byId;
+    private final SingleFlight<Long, List<EnrollmentResponse>> activeEnrollments;
+    private final SingleFlight<StatusSearch, ParticipantSearchResponse> byStatus;
+
+    private record ByIdRead(Long participantId, Set<ParticipantField> fields) {}
+
+    private record StatusSearch(List<String> statuses, StatusMatch match, String cursor, int size,
+                                Set<ParticipantField> fields) {}
+
+    public ParticipantReadCoalescer(ParticipantService participantService,
+                                    Optional<ReadYourWritesTracker> readYourWritesTracker,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${participant.coalescing.timeout:PT5S}") Duration timeout) {
+        this.participantService = participantService;
+        this.readYourWritesTracker = readYourWritesTracker.orElse(null);
+        this.byId = new SingleFlight<>("getById", timeout, meterRegistry);
+        this.activeEnrollments = new SingleFlight<>("getActiveEnrollments", timeout, meterRegistry);
+        this.byStatus = new SingleFlight<>("findByStatus", timeout, meterRegistry);
+    }
+
+    public ParticipantResponse getById(Long participantId, Set<ParticipantField> fields) {
+        return execute(byId, new ByIdRead(participantId, fields), () -> participantService.getById(participantId, fields));
+    }
+
+    public List<EnrollmentResponse> getActiveEnrollments(Long participantId) {
+        return execute(activeEnrollments, participantId, () -> participantService.getActiveEnrollments(participantId));
+    }
+
+    public ParticipantSearchResponse findByStatus(List<String> statuses, StatusMatch match, String cursor, int size,
+                                                  Set<ParticipantField> fields) {
+        // Terms are matched case-insensitively, so differently cased requests share one load
+        List<String> normalized = statuses.stream().map(ParticipantMapper::normalizeStatus).toList();
+        return execute(byStatus, new StatusSearch(normalized, match, cursor, size, fields),
+                () -> participantService.findByStatus(statuses, match, cursor, size, fields));
+    }
+
+    private <K, V> V execute(SingleFlight<K, V> flight, K key, Supplier<V> load) {
+        // A sticky caller must read the primary; joining another caller's flight could hand it a replica result
+        if (readYourWritesTracker != null && readYourWritesTracker.isSticky()) {
+            return load.get();
+        }
+        return flight.execute(key, load);
+    }
+}
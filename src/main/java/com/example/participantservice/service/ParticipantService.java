@@ -1,24 +1,49 @@
 package com.example.participantservice.service;
 
+import com.example.participantservice.config.jfr.EnrollmentEvent;
+import com.example.participantservice.config.jfr.MappingEvent;
+import com.example.participantservice.config.timing.RequestTiming;
 import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.domain.event.EnrollmentCreatedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent.ParticipantState;
 import com.example.participantservice.dto.request.EnrollmentRequest;
+import com.example.participantservice.dto.request.ParticipantField;
 import com.example.participantservice.dto.request.ParticipantRequest;
+import com.example.participantservice.dto.request.StatusMatch;
 import com.example.participantservice.dto.response.EnrollmentResponse;
+import com.example.participantservice.dto.response.ParticipantDetailResponse;
+import com.example.participantservice.dto.response.ParticipantLookupResponse;
 import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.dto.response.ParticipantSearchResponse;
 import com.example.participantservice.exception.EnrollmentException;
 import com.example.participantservice.exception.ParticipantException;
 import com.example.participantservice.mapper.EnrollmentMapper;
 import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.repository.ParticipantArchiveRepository;
 import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.service.enrollment.EnrollmentEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.example.participantservice.domain.constant.AppConstants.*;
@@ -28,38 +53,116 @@ public class ParticipantService {
 
     private static final Logger log = LoggerFactory.getLogger(ParticipantService.class);
 
+    // Oracle rejects IN lists with more than 1000 expressions (ORA-01795)
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
     private final ParticipantRepository participantRepository;
     private final ParticipantMapper participantMapper;
     private final EnrollmentMapper enrollmentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollmentEngine enrollmentEngine;
+    private final ParticipantArchiveRepository archiveRepository;
 
     public ParticipantService(ParticipantRepository participantRepository,
                               ParticipantMapper participantMapper,
-                              EnrollmentMapper enrollmentMapper) {
+                              EnrollmentMapper enrollmentMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              EnrollmentEngine enrollmentEngine,
+                              ParticipantArchiveRepository archiveRepository) {
         this.participantRepository = participantRepository;
         this.participantMapper = participantMapper;
         this.enrollmentMapper = enrollmentMapper;
+        this.eventPublisher = eventPublisher;
+        this.enrollmentEngine = enrollmentEngine;
+        this.archiveRepository = archiveRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<ParticipantResponse> getAll() {
-        return participantRepository.findAll()
-                .stream()
-                .map(participantMapper::toResponse)
-                .toList();
+        return getAll(ParticipantField.all());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParticipantResponse> getAll(Set<ParticipantField> fields) {
+        if (!ParticipantField.isAll(fields)) {
+            return participantRepository.findFields(PredicateSpecification.unrestricted(), fields, Limit.unlimited());
+        }
+        return toResponses(participantRepository.findAll());
     }
 
+    @Transactional(readOnly = true)
     public ParticipantResponse getById(Long participantId) {
+        return getById(participantId, ParticipantField.all());
+    }
+
+    // A participant missing from the hot table is looked up in the archive before reporting RECORD_NOT_FOUND;
+    // sparse reads return the whole archived row and leave the field filtering to the JSON writer
+    @Transactional(readOnly = true)
+    public ParticipantResponse getById(Long participantId, Set<ParticipantField> fields) {
+        if (!ParticipantField.isAll(fields)) {
+            return participantRepository.findFields(idEquals(participantId), fields, Limit.of(1))
+                    .stream()
+                    .findFirst()
+                    .or(() -> archiveRepository.findById(participantId).map(participantMapper::toResponse))
+                    .orElseThrow(() -> new ParticipantException(RECORD_NOT_FOUND));
+        }
         return participantRepository.findById(participantId)
                 .map(participantMapper::toResponse)
+                .or(() -> archiveRepository.findById(participantId).map(participantMapper::toResponse))
+                .orElseThrow(() -> new ParticipantException(RECORD_NOT_FOUND));
+    }
+
+    // Not read-only: served by the primary, so a lagging replica cannot hand ParticipantJsonCache a version
+    // older than the write that just evicted it
+    @Transactional
+    public VersionedParticipant getVersionedById(Long participantId) {
+        return participantRepository.findById(participantId)
+                .map(participant -> new VersionedParticipant(participantMapper.toResponse(participant), participant.getUpdatedOn()))
+                .or(() -> archiveRepository.findById(participantId)
+                        .map(archived -> new VersionedParticipant(participantMapper.toResponse(archived), archived.getUpdatedOn())))
                 .orElseThrow(() -> new ParticipantException(RECORD_NOT_FOUND));
     }
 
+    @Transactional(readOnly = true)
+    public ParticipantLookupResponse getByIds(List<Long> participantIds) {
+        List<Long> requestedIds = participantIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (requestedIds.size() > MAX_LOOKUP_IDS) {
+            throw new ParticipantException(LOOKUP_LIMIT_EXCEEDED);
+        }
+
+        Map<Long, ParticipantResponse> found = new HashMap<>();
+        for (int from = 0; from < requestedIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, requestedIds.size()));
+            toResponses(participantRepository.findAllById(chunk))
+                    .forEach(response -> found.put(response.participantId(), response));
+        }
+
+        List<ParticipantResponse> participants = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long participantId : requestedIds) {
+            ParticipantResponse response = found.get(participantId);
+            if (response != null) {
+                participants.add(response);
+            } else {
+                missingIds.add(participantId);
+            }
+        }
+
+        return new ParticipantLookupResponse(participants, missingIds);
+    }
+
     @Transactional
     public ParticipantResponse create(ParticipantRequest participantRequest) {
         if (participantRepository.existsByEmail(participantRequest.email())) {
             throw new ParticipantException(EMAIL_EXISTS);
         } else {
-            Participant participant = participantMapper.toEntity(participantRequest);
-            return participantMapper.toResponse(participantRepository.save(participant));
+            Participant participant = participantRepository.save(participantMapper.toEntity(participantRequest));
+            eventPublisher.publishEvent(ParticipantChangedEvent.created(participant.getParticipantId(), stateOf(participant)));
+            return participantMapper.toResponse(participant);
         }
     }
 
@@ -67,51 +170,201 @@ public class ParticipantService {
     public ParticipantResponse updateById(Long participantId, ParticipantRequest participantRequest) {
         return participantRepository.findById(participantId)
                 .map(existing -> {
+                    ParticipantState before = stateOf(existing);
                     participantMapper.updateEntity(participantRequest, existing);
-                    return participantMapper.toResponse(participantRepository.save(existing));
+                    Participant saved = participantRepository.save(existing);
+                    eventPublisher.publishEvent(ParticipantChangedEvent.updated(participantId, before, stateOf(saved)));
+                    return participantMapper.toResponse(saved);
                 })
-                .orElseThrow(() -> new ParticipantException(RECORD_NOT_FOUND));
+                .orElseThrow(() -> notFoundOrArchived(participantId));
     }
 
     @Transactional
     public void deleteById(Long participantId) {
-        if (!participantRepository.existsById(participantId)) {
-            throw new ParticipantException(RECORD_NOT_FOUND);
-        }
+        Participant participant = participantRepository.findById(participantId)
+                .orElseThrow(() -> notFoundOrArchived(participantId));
+
+        // The cascade loads the enrollments for removal anyway, so reading them here costs no extra query
+        LocalDate today = LocalDate.now();
+        List<String> removedActivePrograms = participant.getEnrollments().stream()
+                .filter(e -> e.isActiveOn(today))
+                .map(e -> e.getProgramType().getProgramCode())
+                .toList();
 
-        participantRepository.deleteById(participantId);
+        participantRepository.delete(participant);
+        eventPublisher.publishEvent(ParticipantChangedEvent.deleted(participantId, stateOf(participant), removedActivePrograms));
+    }
+
+    // GET serves archived participants, so a write to one reports that it is read-only rather than missing
+    private ParticipantException notFoundOrArchived(Long participantId) {
+        return new ParticipantException(archiveRepository.existsById(participantId) ? PARTICIPANT_ARCHIVED : RECORD_NOT_FOUND);
     }
 
     @Transactional
     public String processEnrollment(EnrollmentRequest request) {
-        log.info("Attempting to enroll participant {} in program {}", request.participantId(), request.programCode());
+        String status = enroll(request);
 
-        String status = participantRepository.enrollParticipant(request.participantId(),
-                                                                request.programCode(),
-                                                                request.userId());
-
-        log.info("Enrollment result for participant {}: {}", request.participantId(), status);
+        log.info("Enrollment of participant {} in program {}: {}", request.participantId(), request.programCode(), status);
 
         if (status.equals(SUCCESS)) {
+            eventPublisher.publishEvent(new EnrollmentCreatedEvent(request.participantId(), request.programCode()));
             return status;
         } else {
             throw new EnrollmentException(status);
         }
     }
 
+    // Times the engine call for Server-Timing and records it, with its outcome, as a JFR event
+    private String enroll(EnrollmentRequest request) {
+        EnrollmentEvent event = new EnrollmentEvent();
+        event.begin();
+        long start = RequestTiming.start();
+        String outcome = null;
+        try {
+            outcome = enrollmentEngine.enroll(request.participantId(),
+                                              request.programCode(),
+                                              request.userId());
+            return outcome;
+        } catch (RuntimeException ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.PROCEDURE, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.participantId = request.participantId() == null ? 0 : request.participantId();
+                event.programCode = request.programCode();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<EnrollmentResponse> getActiveEnrollments(Long participantId) {
         return participantRepository.findById(participantId)
                 .map(participant -> participant.getEnrollments().stream()
-                        .filter(e -> e.getExpirationDate() != null && e.getExpirationDate().isAfter(LocalDate.now()))
+                        .filter(e -> e.isActiveOn(LocalDate.now()))
                         .map(enrollmentMapper::toResponse)
                         .toList())
                 .orElseThrow(() -> new ParticipantException((RECORD_NOT_FOUND)));
     }
 
-    public List<ParticipantResponse> findByStatus(String status) {
-        return participantRepository.findByStatus(status)
-                .stream()
+    @Transactional(readOnly = true)
+    public ParticipantDetailResponse getDetailById(Long participantId) {
+        return participantRepository.findWithEnrollmentsById(participantId)
+                .map(participant -> new ParticipantDetailResponse(
+                        participantMapper.toResponse(participant),
+                        participant.getEnrollments().stream()
+                                .map(enrollmentMapper::toResponse)
+                                .toList()))
+                .orElseThrow(() -> new ParticipantException(RECORD_NOT_FOUND));
+    }
+
+    @Transactional(readOnly = true)
+    public ParticipantSearchResponse findByStatus(List<String> statuses, StatusMatch match, String cursor, int size,
+                                                  Set<ParticipantField> fields) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ParticipantException(INVALID_PAGE_SIZE);
+        }
+        long afterId = decodeCursor(cursor);
+        boolean sparse = !ParticipantField.isAll(fields);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        Limit limit = Limit.of(size + 1);
+        List<ParticipantResponse> rows;
+        if (match == StatusMatch.FUZZY) {
+            if (statuses.size() != 1) {
+                throw new ParticipantException(INVALID_STATUS);
+            }
+            String term = statuses.getFirst().trim();
+            rows = sparse
+                    ? participantRepository.findFields(statusContaining(term, afterId), fields, limit)
+                    : toResponses(participantRepository.findByStatusContaining(term, afterId, limit));
+        } else {
+            Set<String> resolved = resolveStatuses(statuses, match);
+            if (resolved.isEmpty()) {
+                rows = List.of();
+            } else {
+                rows = sparse
+                        ? participantRepository.findFields(statusIn(resolved, afterId), fields, limit)
+                        : toResponses(participantRepository.findByStatusIn(resolved, afterId, limit));
+            }
+        }
+
+        List<ParticipantResponse> page = rows.stream()
+                .limit(size)
+                .toList();
+        String nextCursor = rows.size() > size ? encodeCursor(page.getLast().participantId()) : null;
+        return new ParticipantSearchResponse(page, nextCursor);
+    }
+
+    private List<ParticipantResponse> toResponses(List<Participant> participants) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        List<ParticipantResponse> responses = participants.stream()
                 .map(participantMapper::toResponse)
                 .toList();
+        event.end();
+        if (event.shouldCommit()) {
+            event.mapping = "Participant -> ParticipantResponse";
+            event.items = responses.size();
+            event.commit();
+        }
+        return responses;
+    }
+
+    private static PredicateSpecification<Participant> idEquals(Long participantId) {
+        return (participant, cb) -> cb.equal(participant.get("participantId"), participantId);
+    }
+
+    // Same predicates as ParticipantRepository.findByStatusIn and findByStatusContaining, for sparse reads
+    private static PredicateSpecification<Participant> statusIn(Set<String> statuses, long afterId) {
+        return (participant, cb) -> cb.and(
+                participant.get("enrollmentStatus").in(statuses),
+                cb.greaterThan(participant.<Long>get("participantId"), afterId));
+    }
+
+    private static PredicateSpecification<Participant> statusContaining(String term, long afterId) {
+        return (participant, cb) -> cb.and(
+                cb.like(cb.lower(participant.get("enrollmentStatus")), "%" + term.toLowerCase(Locale.ROOT) + "%"),
+                cb.greaterThan(participant.<Long>get("participantId"), afterId));
+    }
+
+    private static ParticipantState stateOf(Participant participant) {
+        return new ParticipantState(participant.getEnrollmentStatus(), participant.getDob());
+    }
+
+    private static Set<String> resolveStatuses(List<String> terms, StatusMatch match) {
+        Set<String> resolved = new LinkedHashSet<>();
+        for (String term : terms) {
+            String normalized = ParticipantMapper.normalizeStatus(term);
+            if (match == StatusMatch.PREFIX) {
+                PARTICIPANT_STATUSES.stream()
+                        .filter(status -> status.startsWith(normalized))
+                        .forEach(resolved::add);
+            } else if (PARTICIPANT_STATUSES.contains(normalized)) {
+                resolved.add(normalized);
+            } else {
+                throw new ParticipantException(INVALID_STATUS);
+            }
+        }
+        return resolved;
+    }
+
+    private static String encodeCursor(Long participantId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(participantId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new ParticipantException(INVALID_CURSOR);
+        }
     }
 }
@@ -0,0 +1,85 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.dto.response.ProgramRosterEntryResponse;
+import com.example.participantservice.dto.response.ProgramRosterResponse;
+import com.example.participantservice.exception.ProgramException;
+import com.example.participantservice.repository.EnrollmentRepository;
+import com.example.participantservice.repository.ProgramTypeRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+import static com.example.participantservice.domain.constant.AppConstants.*;
+
+@Service
+public class ProgramService {
+
+    // Sentinels that sort before/after any real enrollment, used when no cursor is supplied
+    private static final LocalDate FIRST_START_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LAST_START_DATE = LocalDate.of(9999, 12, 31);
+
+    private final ProgramTypeRepository programTypeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    public ProgramService(ProgramTypeRepository programTypeRepository,
+                          EnrollmentRepository enrollmentRepository) {
+        this.programTypeRepository = programTypeRepository;
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ProgramRosterResponse getRoster(String programCode, boolean activeOnly, Sort.Direction direction,
+                                           String cursor, int size) {
+        if (size < 1 || size > MAX_ROSTER_PAGE_SIZE) {
+            throw new ProgramException(INVALID_PAGE_SIZE);
+        }
+        if (!programTypeRepository.existsById(programCode)) {
+            throw new ProgramException(RECORD_NOT_FOUND);
+        }
+
+        Keyset keyset = cursor == null || cursor.isBlank()
+                ? (direction.isAscending() ? new Keyset(FIRST_START_DATE, 0L) : new Keyset(LAST_START_DATE, Long.MAX_VALUE))
+                : Keyset.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        Limit limit = Limit.of(size + 1);
+        LocalDate today = LocalDate.now();
+        List<ProgramRosterEntryResponse> rows = direction.isAscending()
+                ? enrollmentRepository.findRosterAscending(programCode, activeOnly, today, keyset.startDate(), keyset.enrollmentId(), limit)
+                : enrollmentRepository.findRosterDescending(programCode, activeOnly, today, keyset.startDate(), keyset.enrollmentId(), limit);
+
+        if (rows.size() <= size) {
+            return new ProgramRosterResponse(programCode, rows, null);
+        }
+
+        List<ProgramRosterEntryResponse> page = rows.subList(0, size);
+        ProgramRosterEntryResponse last = page.getLast();
+        return new ProgramRosterResponse(programCode, List.copyOf(page),
+                new Keyset(last.startDate(), last.enrollmentId()).encode());
+    }
+
+    private record Keyset(LocalDate startDate, Long enrollmentId) {
+
+        String encode() {
+            String raw = startDate + "|" + enrollmentId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Keyset decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Keyset(LocalDate.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+                throw new ProgramException(INVALID_CURSOR);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.exception.ParticipantException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.example.participantservice.domain.constant.AppConstants.LOAD_TIMEOUT;
+
+/**
+ * Coalesces concurrent calls for the same key into one load. The first caller runs the loader on its own
+ * thread; callers arriving while it is in flight wait up to the timeout and receive the same result or error.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String operation, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.leaders = Counter.builder("participant.coalescing.calls")
+                .tag("operation", operation).tag("role", "leader")
+                .description("Calls that ran the database load themselves")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("participant.coalescing.calls")
+                .tag("operation", operation).tag("role", "coalesced")
+                .description("Calls that shared an in-flight load instead of running their own")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("participant.coalescing.timeouts")
+                .tag("operation", operation)
+                .description("Coalesced calls that gave up waiting for the shared load")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing == null) {
+            leaders.increment();
+            try {
+                V value = loader.get();
+                flight.complete(value);
+                return value;
+            } catch (RuntimeException | Error ex) {
+                flight.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                inFlight.remove(key, flight);
+            }
+        }
+
+        coalesced.increment();
+        try {
+            return existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            throw new ParticipantException(LOAD_TIMEOUT);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ParticipantException(LOAD_TIMEOUT);
+        }
+    }
+
+    public long coalescedCount() {
+        return (long) coalesced.count();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
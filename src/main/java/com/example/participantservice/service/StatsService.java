@@ -0,0 +1,190 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.domain.event.EnrollmentCreatedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent.ParticipantState;
+import com.example.participantservice.dto.response.StatsResponse;
+import com.example.participantservice.repository.EnrollmentRepository;
+import com.example.participantservice.repository.GroupCount;
+import com.example.participantservice.repository.ParticipantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory participant and enrollment aggregates. Seeded and periodically reconciled from
+ * {@code GROUP BY} queries, and adjusted incrementally from committed service-layer changes in between.
+ * Changes committed while a reconcile is querying are journaled and replayed onto its fresh counters.
+ */
+@Service
+public class StatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsService.class);
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final ParticipantRepository participantRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AtomicReference<Counters> counters = new AtomicReference<>(new Counters(null));
+    // Events share the read lock; a reconcile takes the write lock only to start its journal and to swap in its counters
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Counters journal;
+
+    private record Counters(OffsetDateTime reconciledOn,
+                            ConcurrentHashMap<String, LongAdder> byStatus,
+                            ConcurrentHashMap<String, LongAdder> activeByProgram,
+                            ConcurrentHashMap<String, LongAdder> byAgeBand) {
+
+        Counters(OffsetDateTime reconciledOn) {
+            this(reconciledOn, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    public StatsService(ParticipantRepository participantRepository,
+                        EnrollmentRepository enrollmentRepository) {
+        this.participantRepository = participantRepository;
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    public StatsResponse getStats() {
+        Counters current = counters.get();
+        return new StatsResponse(
+                snapshot(current.byStatus()),
+                snapshot(current.activeByProgram()),
+                snapshot(current.byAgeBand()),
+                current.reconciledOn());
+    }
+
+    // Also performs the initial seed; drift from missed events or expiring enrollments is corrected here
+    @Scheduled(initialDelayString = "${participant.stats.initial-delay:PT0S}",
+               fixedDelayString = "${participant.stats.reconcile-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        Counters pending = new Counters(null);
+        setJournal(pending);
+        try {
+            Counters fresh = new Counters(OffsetDateTime.now());
+            participantRepository.countByStatus()
+                    .forEach(row -> add(fresh.byStatus(), keyOf(row), row.count()));
+            enrollmentRepository.countActiveByProgram(LocalDate.now())
+                    .forEach(row -> add(fresh.activeByProgram(), keyOf(row), row.count()));
+            int currentYear = LocalDate.now().getYear();
+            participantRepository.countByBirthYear()
+                    .forEach(row -> add(fresh.byAgeBand(),
+                            row.key() == null ? UNKNOWN : ageBand(currentYear - ((Number) row.key()).intValue()),
+                            row.count()));
+
+            // A change committing just before a query's snapshot is counted twice until the next reconcile; without the
+            // journal every change committed during the queries would be lost instead
+            Counters previous;
+            swapLock.writeLock().lock();
+            try {
+                merge(pending, fresh);
+                previous = counters.getAndSet(fresh);
+                journal = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            if (previous.reconciledOn() != null && !snapshot(previous.byStatus()).equals(snapshot(fresh.byStatus()))) {
+                log.info("Reconciled participant status counters: {} -> {}", snapshot(previous.byStatus()), snapshot(fresh.byStatus()));
+            }
+        } catch (RuntimeException ex) {
+            setJournal(null);
+            log.warn("Unable to reconcile stats counters: {}", ex.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        int currentYear = LocalDate.now().getYear();
+        update(current -> {
+            if (event.before() != null) {
+                apply(current, event.before(), currentYear, -1);
+            }
+            if (event.after() != null) {
+                apply(current, event.after(), currentYear, 1);
+            }
+            event.removedActivePrograms().forEach(programCode -> add(current.activeByProgram(), programCode, -1));
+        });
+    }
+
+    @TransactionalEventListener
+    public void onEnrollmentCreated(EnrollmentCreatedEvent event) {
+        update(current -> add(current.activeByProgram(), event.programCode(), 1));
+    }
+
+    static String ageBand(int age) {
+        if (age < 18) return "0-17";
+        if (age < 25) return "18-24";
+        if (age < 35) return "25-34";
+        if (age < 45) return "35-44";
+        if (age < 55) return "45-54";
+        if (age < 65) return "55-64";
+        return "65+";
+    }
+
+    private void update(Consumer<Counters> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(counters.get());
+            if (journal != null) {
+                change.accept(journal);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void setJournal(Counters pending) {
+        swapLock.writeLock().lock();
+        try {
+            journal = pending;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static void merge(Counters deltas, Counters target) {
+        deltas.byStatus().forEach((key, delta) -> add(target.byStatus(), key, delta.sum()));
+        deltas.activeByProgram().forEach((key, delta) -> add(target.activeByProgram(), key, delta.sum()));
+        deltas.byAgeBand().forEach((key, delta) -> add(target.byAgeBand(), key, delta.sum()));
+    }
+
+    private static void apply(Counters counters, ParticipantState state, int currentYear, long delta) {
+        add(counters.byStatus(), state.enrollmentStatus() == null ? UNKNOWN : state.enrollmentStatus(), delta);
+        // Bands use birth year, matching the GROUP BY seed, so increments and reconciles agree
+        add(counters.byAgeBand(), state.dob() == null ? UNKNOWN : ageBand(currentYear - state.dob().getYear()), delta);
+    }
+
+    private static void add(ConcurrentHashMap<String, LongAdder> counter, String key, long delta) {
+        counter.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private static String keyOf(GroupCount row) {
+        return row.key() == null ? UNKNOWN : row.key().toString();
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> counter) {
+        Map<String, Long> result = new TreeMap<>();
+        counter.forEach((key, value) -> {
+            long count = value.sum();
+            if (count != 0) {
+                result.put(key, count);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent.ParticipantState;
+import com.example.participantservice.dto.request.StatusTransitionRequest;
+import com.example.participantservice.dto.response.StatusTransitionResponse;
+import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.repository.GroupCount;
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.repository.ParticipantStatusRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static com.example.participantservice.domain.constant.AppConstants.*;
+
+/**
+ * Moves many participants to one status with set-based {@code UPDATE} statements instead of a load and save per row.
+ * Each chunk of at most {@value #CHUNK_SIZE} rows commits in its own transaction, which keeps row locks and undo
+ * short on large transitions; a failure part-way leaves earlier chunks committed, and re-running the same
+ * request finishes the job because participants already in the target status are skipped.
+ */
+@Service
+public class StatusTransitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusTransitionService.class);
+
+    // Oracle rejects IN lists with more than 1000 expressions (ORA-01795)
+    private static final int CHUNK_SIZE = 1000;
+    private static final String UNKNOWN_STATUS = "UNKNOWN";
+
+    private final ParticipantRepository participantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StatusTransitionService(ParticipantRepository participantRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager) {
+        this.participantRepository = participantRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StatusTransitionResponse transition(StatusTransitionRequest request) {
+        List<Long> ids = request.participantIds() == null ? List.of() : request.participantIds().stream().distinct().toList();
+        if (ids.isEmpty() == !request.hasFilter()) {
+            throw new ParticipantException(INVALID_TRANSITION_SELECTION);
+        }
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new ParticipantException(LOOKUP_LIMIT_EXCEEDED);
+        }
+
+        String targetStatus = ParticipantMapper.normalizeStatus(request.targetStatus());
+        String currentStatus = ParticipantMapper.normalizeStatus(request.currentStatus());
+        Map<String, Long> affected = request.isDryRun()
+                ? preview(ids, targetStatus, currentStatus, request.createdBefore())
+                : apply(ids, targetStatus, currentStatus, request.createdBefore());
+
+        long total = affected.values().stream().mapToLong(Long::longValue).sum();
+        log.info("Status transition to {}{}: {} participants {}", targetStatus, request.isDryRun() ? " (dry run)" : "",
+                total, affected);
+        return new StatusTransitionResponse(targetStatus, request.isDryRun(), total, affected);
+    }
+
+    private Map<String, Long> preview(List<Long> ids, String targetStatus, String currentStatus, OffsetDateTime createdBefore) {
+        return readOnlyTransaction.execute(status -> {
+            Map<String, Long> counts = new TreeMap<>();
+            if (ids.isEmpty()) {
+                participantRepository.countTransitionCandidates(targetStatus, currentStatus, createdBefore)
+                        .forEach(row -> tally(counts, row));
+            } else {
+                for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                    participantRepository.countTransitionCandidatesIn(targetStatus, ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())))
+                            .forEach(row -> tally(counts, row));
+                }
+            }
+            return counts;
+        });
+    }
+
+    private Map<String, Long> apply(List<Long> ids, String targetStatus, String currentStatus, OffsetDateTime createdBefore) {
+        String updatedBy = currentUser();
+        Map<String, Long> counts = new TreeMap<>();
+        if (ids.isEmpty()) {
+            // Keyset over participant ID, so each chunk's candidate query is served by IDX_PARTICIPANTS_STATUS_ID
+            long afterId = 0L;
+            List<ParticipantStatusRow> chunk;
+            do {
+                long after = afterId;
+                chunk = applyChunk(() -> participantRepository.findTransitionCandidates(
+                        targetStatus, currentStatus, createdBefore, after, Limit.of(CHUNK_SIZE)), targetStatus, updatedBy);
+                chunk.forEach(row -> counts.merge(statusKey(row.enrollmentStatus()), 1L, Long::sum));
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.getLast().participantId();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+        } else {
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<Long> slice = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+                applyChunk(() -> participantRepository.findTransitionCandidatesIn(targetStatus, slice), targetStatus, updatedBy)
+                        .forEach(row -> counts.merge(statusKey(row.enrollmentStatus()), 1L, Long::sum));
+            }
+        }
+        return counts;
+    }
+
+    // Events are published per row so the stats counters and response caches see the change once the chunk
+    // commits. A row changed by someone else between the two statements is reported but may be left untouched;
+    // its cache entry is still evicted, and StatsService.reconcile corrects the counters.
+    private List<ParticipantStatusRow> applyChunk(Supplier<List<ParticipantStatusRow>> candidates,
+                                                  String targetStatus,
+                                                  String updatedBy) {
+        return chunkTransaction.execute(status -> {
+            List<ParticipantStatusRow> rows = candidates.get();
+            if (rows.isEmpty()) {
+                return rows;
+            }
+            int updated = participantRepository.updateStatus(
+                    rows.stream().map(ParticipantStatusRow::participantId).toList(), targetStatus, updatedBy, OffsetDateTime.now());
+            if (updated != rows.size()) {
+                log.debug("Status transition chunk matched {} participants but updated {}", rows.size(), updated);
+            }
+            rows.forEach(row -> eventPublisher.publishEvent(ParticipantChangedEvent.updated(row.participantId(),
+                    new ParticipantState(row.enrollmentStatus(), row.dob()),
+                    new ParticipantState(targetStatus, row.dob()))));
+            return rows;
+        });
+    }
+
+    private static void tally(Map<String, Long> counts, GroupCount row) {
+        counts.merge(statusKey((String) row.key()), row.count(), Long::sum);
+    }
+
+    // Participants without a status are reported under the same key StatsService uses
+    private static String statusKey(String enrollmentStatus) {
+        return enrollmentStatus == null ? UNKNOWN_STATUS : enrollmentStatus;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.participantservice.service;
+
+import com.example.participantservice.dto.response.ParticipantResponse;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A participant response together with the row's UPDATED_ON, used to version cached representations.
+ */
+public record VersionedParticipant(
+    ParticipantResponse participant,
+    OffsetDateTime updatedOn
+) {}
@@ -0,0 +1,240 @@
+package com.example.participantservice.service.archive;
+
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent.ParticipantState;
+import com.example.participantservice.dto.response.EnrollmentResponse;
+import com.example.participantservice.dto.response.ParticipantDetailResponse;
+import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.repository.ParticipantArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.example.participantservice.domain.constant.AppConstants.RECORD_NOT_FOUND;
+
+/**
+ * Keeps PARTICIPANTS and ENROLLMENTS small by moving cold rows into PARTICIPANTS_ARCHIVE and ENROLLMENTS_ARCHIVE:
+ * enrollments expired for longer than {@code expired-after}, then INACTIVE participants untouched for longer than
+ * {@code inactive-after} (by UPDATED_ON, else CREATED_ON) that have no unexpired enrollment, together with their
+ * remaining enrollments.
+ *
+ * <p>Candidates are read in primary key order, and each chunk of at most {@code chunk-size} rows is locked,
+ * re-checked, copied and deleted in its own transaction. A run stopped part-way leaves earlier chunks archived and
+ * the next run carries on, because moved rows no longer match; pods running the job at the same time wait on the
+ * row locks and find nothing left to move.
+ */
+@Service
+public class ParticipantArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantArchiveService.class);
+
+    private static final String INACTIVE = "INACTIVE";
+
+    private static final String EXPIRED_ENROLLMENT = "EXPIRATION_DATE < :expiredBefore";
+
+    // Rows inserted before UPDATED_ON was stamped hold NULL there; fall back to CREATED_ON, and treat a row with neither as cold
+    private static final String COLD_PARTICIPANT = """
+            p.ENROLLMENT_STATUS = :inactive
+            and (coalesce(p.UPDATED_ON, p.CREATED_ON) < :untouchedSince
+                 or (p.UPDATED_ON is null and p.CREATED_ON is null))
+            and not exists (select 1 from ENROLLMENTS e
+                            where e.PARTICIPANT_ID = p.PARTICIPANT_ID
+                            and (e.EXPIRATION_DATE is null or e.EXPIRATION_DATE >= :today))
+            """;
+
+    private static final String ENROLLMENT_COLUMNS =
+            "ENROLLMENT_ID, PARTICIPANT_ID, PROGRAM_CODE, START_DATE, EXPIRATION_DATE, CREATED_BY, CREATED_ON, UPDATED_BY, UPDATED_ON";
+
+    private static final String PARTICIPANT_COLUMNS =
+            "PARTICIPANT_ID, FIRST_NAME, LAST_NAME, EMAIL, DOB, ENROLLMENT_STATUS, CREATED_BY, CREATED_ON, UPDATED_BY, UPDATED_ON";
+
+    // Oracle rejects IN lists with more than 1000 expressions (ORA-01795)
+    private static final int MAX_CHUNK_SIZE = 1000;
+
+    // Enrollments moved along with their participant are not part of expiredEnrollments
+    public record ArchiveRun(long expiredEnrollments, long participants) {}
+
+    private record ColdParticipant(long participantId, String enrollmentStatus, LocalDate dob) {}
+
+    private final ParticipantArchiveRepository archiveRepository;
+    private final ParticipantMapper participantMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final Duration inactiveAfter;
+    private final Duration expiredAfter;
+    private final int chunkSize;
+    private final Counter archivedParticipants;
+    private final Counter archivedEnrollments;
+
+    public ParticipantArchiveService(ParticipantArchiveRepository archiveRepository,
+                                     ParticipantMapper participantMapper,
+                                     JdbcTemplate jdbcTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${participant.archive.inactive-after:P730D}") Duration inactiveAfter,
+                                     @Value("${participant.archive.expired-after:P365D}") Duration expiredAfter,
+                                     @Value("${participant.archive.chunk-size:500}") int chunkSize) {
+        this.archiveRepository = archiveRepository;
+        this.participantMapper = participantMapper;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.inactiveAfter = inactiveAfter;
+        this.expiredAfter = expiredAfter;
+        this.chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+        this.archivedParticipants = Counter.builder("participant.archive.rows")
+                .tag("table", "PARTICIPANTS")
+                .description("Rows moved to the archive tables")
+                .register(meterRegistry);
+        this.archivedEnrollments = Counter.builder("participant.archive.rows")
+                .tag("table", "ENROLLMENTS")
+                .description("Rows moved to the archive tables")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${participant.archive.cron:0 30 4 * * *}")
+    public void scheduledArchive() {
+        try {
+            archive();
+        } catch (RuntimeException ex) {
+            log.warn("Archival stopped, the next run will continue: {}", ex.getMessage());
+        }
+    }
+
+    public ArchiveRun archive() {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        MapSqlParameterSource criteria = new MapSqlParameterSource()
+                .addValue("expiredBefore", Date.valueOf(today.minusDays(expiredAfter.toDays())))
+                .addValue("inactive", INACTIVE)
+                .addValue("untouchedSince", Timestamp.from(Instant.now().minus(inactiveAfter)))
+                .addValue("today", Date.valueOf(today));
+
+        // Enrollments first, so most cold participants have none left to copy with them
+        long enrollments = inChunks(criteria, """
+                select ENROLLMENT_ID from ENROLLMENTS
+                where %s and ENROLLMENT_ID > :afterId
+                order by ENROLLMENT_ID
+                fetch first :limit rows only
+                """.formatted(EXPIRED_ENROLLMENT), this::archiveEnrollments);
+        long participants = inChunks(criteria, """
+                select p.PARTICIPANT_ID from PARTICIPANTS p
+                where %s and p.PARTICIPANT_ID > :afterId
+                order by p.PARTICIPANT_ID
+                fetch first :limit rows only
+                """.formatted(COLD_PARTICIPANT), this::archiveParticipants);
+
+        log.info("Archived {} expired enrollments and {} participants in {} ms", enrollments, participants,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return new ArchiveRun(enrollments, participants);
+    }
+
+    @Transactional(readOnly = true)
+    public ParticipantDetailResponse getArchivedById(Long participantId) {
+        return archiveRepository.findById(participantId)
+                .map(participant -> new ParticipantDetailResponse(
+                        participantMapper.toResponse(participant),
+                        archiveRepository.findEnrollments(participantId)))
+                .orElseThrow(() -> new ParticipantException(RECORD_NOT_FOUND));
+    }
+
+    // Archived enrollments of any participant, including one still in the hot table
+    @Transactional(readOnly = true)
+    public List<EnrollmentResponse> getArchivedEnrollments(Long participantId) {
+        return archiveRepository.findEnrollments(participantId);
+    }
+
+    // Keyset over the primary key; each chunk returns how many rows it moved
+    private long inChunks(MapSqlParameterSource criteria, String candidatesSql, Function<MapSqlParameterSource, Integer> move) {
+        long moved = 0;
+        long afterId = 0L;
+        List<Long> chunk;
+        do {
+            MapSqlParameterSource page = new MapSqlParameterSource(criteria.getValues())
+                    .addValue("afterId", afterId)
+                    .addValue("limit", chunkSize);
+            chunk = jdbcTemplate.queryForList(candidatesSql, page, Long.class);
+            if (!chunk.isEmpty()) {
+                MapSqlParameterSource ids = new MapSqlParameterSource(criteria.getValues())
+                        .addValue("ids", chunk)
+                        .addValue("archivedOn", Timestamp.from(Instant.now()));
+                moved += chunkTransaction.execute(status -> move.apply(ids));
+                afterId = chunk.getLast();
+            }
+        } while (chunk.size() == chunkSize);
+        return moved;
+    }
+
+    private int archiveEnrollments(MapSqlParameterSource chunk) {
+        // Lock and re-check, so a row changed since the candidate query is left alone
+        List<Long> locked = jdbcTemplate.queryForList("""
+                select ENROLLMENT_ID from ENROLLMENTS
+                where ENROLLMENT_ID in (:ids) and %s
+                for update
+                """.formatted(EXPIRED_ENROLLMENT), chunk, Long.class);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        chunk.addValue("ids", locked);
+        jdbcTemplate.update("""
+                insert into ENROLLMENTS_ARCHIVE (%1$s, ARCHIVED_ON)
+                select %1$s, :archivedOn from ENROLLMENTS where ENROLLMENT_ID in (:ids)
+                """.formatted(ENROLLMENT_COLUMNS), chunk);
+        int deleted = jdbcTemplate.update("delete from ENROLLMENTS where ENROLLMENT_ID in (:ids)", chunk);
+        archivedEnrollments.increment(deleted);
+        return deleted;
+    }
+
+    private int archiveParticipants(MapSqlParameterSource chunk) {
+        List<ColdParticipant> locked = jdbcTemplate.query("""
+                select p.PARTICIPANT_ID, p.ENROLLMENT_STATUS, p.DOB from PARTICIPANTS p
+                where p.PARTICIPANT_ID in (:ids) and %s
+                for update
+                """.formatted(COLD_PARTICIPANT), chunk, (rs, rowNum) -> new ColdParticipant(
+                rs.getLong("PARTICIPANT_ID"),
+                rs.getString("ENROLLMENT_STATUS"),
+                rs.getObject("DOB", LocalDate.class)));
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        chunk.addValue("ids", locked.stream().map(ColdParticipant::participantId).toList());
+        jdbcTemplate.update("""
+                insert into ENROLLMENTS_ARCHIVE (%1$s, ARCHIVED_ON)
+                select %1$s, :archivedOn from ENROLLMENTS where PARTICIPANT_ID in (:ids)
+                """.formatted(ENROLLMENT_COLUMNS), chunk);
+        archivedEnrollments.increment(jdbcTemplate.update("delete from ENROLLMENTS where PARTICIPANT_ID in (:ids)", chunk));
+        jdbcTemplate.update("""
+                insert into PARTICIPANTS_ARCHIVE (%1$s, ARCHIVED_ON)
+                select %1$s, :archivedOn from PARTICIPANTS where PARTICIPANT_ID in (:ids)
+                """.formatted(PARTICIPANT_COLUMNS), chunk);
+        int deleted = jdbcTemplate.update("delete from PARTICIPANTS where PARTICIPANT_ID in (:ids)", chunk);
+        archivedParticipants.increment(deleted);
+
+        // Gone from the hot table as far as caches and stats counters are concerned; no active programs by definition
+        locked.forEach(participant -> eventPublisher.publishEvent(ParticipantChangedEvent.deleted(participant.participantId(),
+                new ParticipantState(participant.enrollmentStatus(), participant.dob()), List.of())));
+        return deleted;
+    }
+}
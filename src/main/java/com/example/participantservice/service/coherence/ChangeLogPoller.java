@@ -0,0 +1,193 @@
+package com.example.participantservice.service.coherence;
+
+import com.example.participantservice.domain.event.RemoteChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the changes other pods appended to {@code CACHE_INVALIDATIONS} and republishes them locally as
+ * {@link RemoteChangeEvent}s, which bounds how long an in-process cache can serve a value another pod has replaced.
+ * The poll interval adapts: it drops to {@code min-interval} while changes arrive and doubles towards
+ * {@code max-interval} while the log is quiet, so staleness stays under {@code max-interval} plus one query.
+ *
+ * <p>Identity values are handed out at insert but become visible at commit, so a lower CHANGE_ID can appear after a
+ * higher one. The watermark therefore only moves past rows older than {@code grace}; younger rows are re-read on each
+ * poll and skipped if already delivered.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.cache-sync.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogPoller implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogPoller.class);
+
+    private record Change(long changeId, String entity, String key, String origin, Instant changedOn) {}
+
+    private static final RowMapper<Change> ROW_MAPPER = (rs, rowNum) -> new Change(
+            rs.getLong("CHANGE_ID"),
+            rs.getString("ENTITY"),
+            rs.getString("ENTITY_KEY"),
+            rs.getString("ORIGIN"),
+            rs.getTimestamp("CHANGED_ON").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String origin;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Duration grace;
+    private final Duration retention;
+    private final int batchSize;
+    private final Timer lag;
+    private final Counter applied;
+    private final ScheduledExecutorService scheduler;
+    private final NavigableSet<Long> delivered = new ConcurrentSkipListSet<>();
+    private volatile long watermark = -1;
+    private volatile long intervalMillis;
+    private volatile boolean running;
+
+    public ChangeLogPoller(JdbcTemplate jdbcTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           ChangeLogWriter changeLogWriter,
+                           MeterRegistry meterRegistry,
+                           @Value("${participant.cache-sync.min-interval:PT0.25S}") Duration minInterval,
+                           @Value("${participant.cache-sync.max-interval:PT5S}") Duration maxInterval,
+                           @Value("${participant.cache-sync.grace:PT5S}") Duration grace,
+                           @Value("${participant.cache-sync.retention:PT1H}") Duration retention,
+                           @Value("${participant.cache-sync.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.origin = changeLogWriter.origin();
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.grace = grace;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.intervalMillis = minInterval.toMillis();
+        this.lag = Timer.builder("participant.cache.sync.lag")
+                .description("Time from a change committing on another pod to its eviction on this one")
+                .register(meterRegistry);
+        this.applied = Counter.builder("participant.cache.sync.invalidations")
+                .description("Changes from other pods applied to the local caches")
+                .register(meterRegistry);
+        Gauge.builder("participant.cache.sync.poll.interval", this, poller -> poller.intervalMillis)
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .description("Current delay between change log polls")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler.schedule(this::pollAndReschedule, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Publishes every change from another pod not delivered yet.
+     *
+     * @return the number of log rows read for the first time, including this pod's own
+     */
+    public int poll() {
+        if (watermark < 0) {
+            // Caches start empty, so history before this pod came up has nothing to evict
+            watermark = jdbcTemplate.queryForObject("select coalesce(max(CHANGE_ID), 0) from CACHE_INVALIDATIONS", Long.class);
+            return 0;
+        }
+        Instant now = Instant.now();
+        Instant settled = now.minus(grace);
+        long cursor = watermark;
+        long newWatermark = watermark;
+        boolean contiguous = true;
+        int fresh = 0;
+        List<Change> page;
+        do {
+            page = jdbcTemplate.query("""
+                    select CHANGE_ID, ENTITY, ENTITY_KEY, ORIGIN, CHANGED_ON
+                    from CACHE_INVALIDATIONS
+                    where CHANGE_ID > ?
+                    order by CHANGE_ID
+                    fetch first ? rows only
+                    """, ROW_MAPPER, cursor, batchSize);
+            for (Change change : page) {
+                if (delivered.add(change.changeId())) {
+                    fresh++;
+                    if (!origin.equals(change.origin())) {
+                        eventPublisher.publishEvent(new RemoteChangeEvent(change.entity(), change.key()));
+                        lag.record(Duration.between(change.changedOn(), now).abs());
+                        applied.increment();
+                    }
+                }
+                contiguous &= change.changedOn().isBefore(settled);
+                if (contiguous) {
+                    newWatermark = change.changeId();
+                }
+            }
+            if (!page.isEmpty()) {
+                cursor = page.getLast().changeId();
+            }
+        } while (page.size() == batchSize);
+
+        watermark = newWatermark;
+        delivered.headSet(newWatermark, true).clear();
+        return fresh;
+    }
+
+    @Scheduled(fixedDelayString = "${participant.cache-sync.purge-interval:PT10M}")
+    public void purge() {
+        int deleted = jdbcTemplate.update("delete from CACHE_INVALIDATIONS where CHANGED_ON < ?",
+                Timestamp.from(Instant.now().minus(retention)));
+        log.debug("Purged {} cache invalidation log rows", deleted);
+    }
+
+    private void pollAndReschedule() {
+        try {
+            intervalMillis = poll() > 0
+                    ? minInterval.toMillis()
+                    : Math.min(intervalMillis * 2, maxInterval.toMillis());
+        } catch (RuntimeException ex) {
+            intervalMillis = maxInterval.toMillis();
+            log.warn("Unable to poll the cache invalidation log: {}", ex.getMessage());
+        }
+        if (running) {
+            scheduler.schedule(this::pollAndReschedule, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
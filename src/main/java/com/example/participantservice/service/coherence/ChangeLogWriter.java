@@ -0,0 +1,105 @@
+package com.example.participantservice.service.coherence;
+
+import com.example.participantservice.domain.event.EnrollmentCreatedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.example.participantservice.domain.event.RemoteChangeEvent.PARTICIPANT;
+import static com.example.participantservice.domain.event.RemoteChangeEvent.PROGRAM;
+
+/**
+ * Appends the keys changed by a transaction to {@code CACHE_INVALIDATIONS}, so other pods can evict them.
+ * Changes are collected while the transaction runs and written as one JDBC batch just before it commits, on the
+ * transaction's own connection: the log rows commit or roll back with the change itself, and a bulk status
+ * transition costs one batch per chunk rather than one insert per participant.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.cache-sync.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogWriter {
+
+    static final String INSERT = """
+            insert into CACHE_INVALIDATIONS (ENTITY, ENTITY_KEY, ORIGIN, CHANGED_ON)
+            values (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String origin;
+
+    private record Change(String entity, String key) {}
+
+    public ChangeLogWriter(JdbcTemplate jdbcTemplate,
+                           @Value("${participant.cache-sync.origin:${HOSTNAME:pod}}") String host) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Unique per process, so a restarted pod with the same host name still sees the changes its predecessor made
+        this.origin = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String origin() {
+        return origin;
+    }
+
+    @EventListener
+    public void onParticipantChanged(ParticipantChangedEvent event) {
+        record(new Change(PARTICIPANT, String.valueOf(event.participantId())));
+    }
+
+    @EventListener
+    public void onEnrollmentCreated(EnrollmentCreatedEvent event) {
+        record(new Change(PROGRAM, event.programCode()));
+    }
+
+    private void record(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(change));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    private void write(List<Change> changes) {
+        Timestamp changedOn = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (statement, change) -> {
+            statement.setString(1, change.entity());
+            statement.setString(2, change.key());
+            statement.setString(3, origin);
+            statement.setTimestamp(4, changedOn);
+        });
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Change> changes = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!changes.isEmpty()) {
+                write(new ArrayList<>(changes));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogWriter.this);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.participantservice.service.enrollment;
+
+/**
+ * Enrolls a participant in a program and reports the outcome as an {@code AppConstants} code:
+ * SUCCESS, RECORD_NOT_FOUND, INELIGIBLE_AGE or ALREADY_ENROLLED. Runs in the caller's transaction.
+ */
+public interface EnrollmentEngine {
+
+    String enroll(Long participantId, String programCode, String userId);
+}
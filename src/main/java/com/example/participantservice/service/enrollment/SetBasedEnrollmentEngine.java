@@ -0,0 +1,73 @@
+package com.example.participantservice.service.enrollment;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.participantservice.domain.constant.AppConstants.*;
+
+/**
+ * Checks eligibility and duplicates and inserts the enrollment in one conditional INSERT ... SELECT, in portable SQL.
+ * Two concurrent enrollments of the same pair are settled by UQ_ENROLLMENTS_PARTICIPANT_PROGRAM; the loser reports
+ * ALREADY_ENROLLED. Only when nothing was inserted does a second query work out which rule failed.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.enrollment.engine", havingValue = "set-based")
+public class SetBasedEnrollmentEngine implements EnrollmentEngine {
+
+    // Age in whole years >= the program minimum, as in PARTICIPANT_PKG; a missing DOB does not block enrollment
+    private static final String ELIGIBLE = """
+            (p.DOB is null or extract(year from p.DOB) * 10000 + extract(month from p.DOB) * 100 + extract(day from p.DOB)
+                              <= ? - coalesce(t.ELIGIBILITY_AGE, 0) * 10000)
+            """;
+
+    private static final String ENROLL = """
+            insert into ENROLLMENTS (PARTICIPANT_ID, PROGRAM_CODE, START_DATE, EXPIRATION_DATE, CREATED_BY, UPDATED_BY)
+            select p.PARTICIPANT_ID, t.PROGRAM_CODE, ?, ?, ?, ?
+              from PARTICIPANTS p, PROGRAM_TYPES t
+             where p.PARTICIPANT_ID = ? and t.PROGRAM_CODE = ?
+               and %s
+               and not exists (select 1 from ENROLLMENTS e
+                                where e.PARTICIPANT_ID = p.PARTICIPANT_ID and e.PROGRAM_CODE = t.PROGRAM_CODE)
+            """.formatted(ELIGIBLE);
+
+    private static final String DIAGNOSE = """
+            select case when %s then 1 else 0 end
+              from PARTICIPANTS p, PROGRAM_TYPES t
+             where p.PARTICIPANT_ID = ? and t.PROGRAM_CODE = ?
+            """.formatted(ELIGIBLE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SetBasedEnrollmentEngine(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String enroll(Long participantId, String programCode, String userId) {
+        LocalDate today = LocalDate.now();
+        int todayKey = today.getYear() * 10000 + today.getMonthValue() * 100 + today.getDayOfMonth();
+
+        try {
+            int inserted = jdbcTemplate.update(ENROLL,
+                    Date.valueOf(today), Date.valueOf(today.plusMonths(12)), userId, userId,
+                    participantId, programCode, todayKey);
+            if (inserted == 1) {
+                return SUCCESS;
+            }
+        } catch (DuplicateKeyException ex) {
+            return ALREADY_ENROLLED;
+        }
+
+        List<Integer> eligible = jdbcTemplate.queryForList(DIAGNOSE, Integer.class, todayKey, participantId, programCode);
+        if (eligible.isEmpty()) {
+            return RECORD_NOT_FOUND;
+        }
+        return eligible.getFirst() == 1 ? ALREADY_ENROLLED : INELIGIBLE_AGE;
+    }
+}
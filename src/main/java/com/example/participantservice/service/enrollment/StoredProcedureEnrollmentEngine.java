@@ -0,0 +1,24 @@
+package com.example.participantservice.service.enrollment;
+
+import com.example.participantservice.repository.ParticipantRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delegates to {@code PARTICIPANT_PKG.ENROLL_PARTICIPANT} (default).
+ */
+@Component
+@ConditionalOnProperty(name = "participant.enrollment.engine", havingValue = "procedure", matchIfMissing = true)
+public class StoredProcedureEnrollmentEngine implements EnrollmentEngine {
+
+    private final ParticipantRepository participantRepository;
+
+    public StoredProcedureEnrollmentEngine(ParticipantRepository participantRepository) {
+        this.participantRepository = participantRepository;
+    }
+
+    @Override
+    public String enroll(Long participantId, String programCode, String userId) {
+        return participantRepository.enrollParticipant(participantId, programCode, userId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.participantservice.service.idempotency;
+
+import java.time.Instant;
+
+/**
+ * Outcome stored for an idempotency key. While {@code completed} is false the first request is still running.
+ * A completed record holds either the response (status and JSON body) or the business error that was raised.
+ */
+public record IdempotencyRecord(
+    String fingerprint,
+    boolean completed,
+    int status,
+    String body,
+    String errorType,
+    String errorCode,
+    Instant expiresAt
+) {
+
+    public static IdempotencyRecord inProgress(String fingerprint, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, false, 0, null, null, null, expiresAt);
+    }
+
+    public static IdempotencyRecord response(String fingerprint, int status, String body, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, true, status, body, null, null, expiresAt);
+    }
+
+    public static IdempotencyRecord error(String fingerprint, String errorType, String errorCode, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, true, 0, null, errorType, errorCode, expiresAt);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
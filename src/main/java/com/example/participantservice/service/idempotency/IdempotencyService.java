@@ -0,0 +1,201 @@
+package com.example.participantservice.service.idempotency;
+
+import com.example.participantservice.exception.EnrollmentException;
+import com.example.participantservice.exception.IdempotencyException;
+import com.example.participantservice.exception.ParticipantException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.example.participantservice.domain.constant.AppConstants.*;
+
+/**
+ * Runs a write at most once per {@code Idempotency-Key}. The first outcome (response or business error) is
+ * stored and replayed for retries without reaching the service layer; concurrent duplicates wait for it.
+ * A running request holds the key on a short lease, and only its stored outcome is kept for {@code ttl}.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    // A claim outlives its waiters by this factor; if the owning pod dies, a retry can take the key over once it lapses
+    private static final int LEASE_WAIT_TIMEOUTS = 3;
+
+    private final IdempotencyStore store;
+    private final JsonMapper jsonMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyStore store,
+                              JsonMapper jsonMapper,
+                              @Value("${participant.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${participant.idempotency.wait-timeout:PT30S}") Duration waitTimeout) {
+        this.store = store;
+        this.jsonMapper = jsonMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public <T> ResponseEntity<T> execute(String operation, String idempotencyKey, Object request,
+                                         Class<T> bodyType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException(IDEMPOTENCY_KEY_INVALID);
+        }
+
+        // Keys are scoped per client and operation so two clients can never replay each other's responses
+        String key = sha256(currentClient() + '\n' + operation + '\n' + idempotencyKey);
+        String fingerprint = sha256(jsonMapper.writeValueAsString(request));
+
+        CompletableFuture<IdempotencyRecord> flight = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> local = inFlight.putIfAbsent(key, flight);
+        if (local != null) {
+            return replay(await(local), fingerprint, bodyType);
+        }
+
+        try {
+            Instant leaseExpiresAt = Instant.now().plus(waitTimeout.multipliedBy(LEASE_WAIT_TIMEOUTS));
+            Optional<IdempotencyRecord> existing = store.claim(key, IdempotencyRecord.inProgress(fingerprint, leaseExpiresAt));
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get().completed() ? existing.get() : awaitStore(key);
+                flight.complete(record);
+                return replay(record, fingerprint, bodyType);
+            }
+
+            ResponseEntity<T> response;
+            try {
+                response = action.get();
+            } catch (ParticipantException | EnrollmentException ex) {
+                // Business rule outcomes are final for this key, so retries see the same error
+                IdempotencyRecord error = IdempotencyRecord.error(fingerprint, ex.getClass().getSimpleName(), ex.getMessage(),
+                        Instant.now().plus(ttl));
+                store.complete(key, error);
+                flight.complete(error);
+                throw ex;
+            } catch (RuntimeException ex) {
+                // Unexpected failures are not recorded; a retry runs the request again
+                store.release(key);
+                throw ex;
+            }
+
+            // The write has committed, so the key must never be released from here on
+            IdempotencyRecord record = toRecord(fingerprint, response);
+            store.complete(key, record);
+            flight.complete(record);
+            return response;
+        } catch (RuntimeException ex) {
+            // Local waiters fail with the owner instead of sitting out the wait timeout; a no-op once completed
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private IdempotencyRecord toRecord(String fingerprint, ResponseEntity<?> response) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        try {
+            return IdempotencyRecord.response(fingerprint, response.getStatusCode().value(),
+                    jsonMapper.writeValueAsString(response.getBody()), expiresAt);
+        } catch (RuntimeException ex) {
+            log.warn("Unable to store the response for an idempotency key; retries will be refused: {}", ex.getMessage());
+            return IdempotencyRecord.error(fingerprint, IdempotencyException.class.getSimpleName(),
+                    IDEMPOTENCY_RESPONSE_UNAVAILABLE, expiresAt);
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String fingerprint, Class<T> bodyType) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyException(IDEMPOTENCY_KEY_REUSED);
+        }
+        if (record.errorType() != null) {
+            if (EnrollmentException.class.getSimpleName().equals(record.errorType())) {
+                throw new EnrollmentException(record.errorCode());
+            }
+            if (IdempotencyException.class.getSimpleName().equals(record.errorType())) {
+                throw new IdempotencyException(record.errorCode());
+            }
+            throw new ParticipantException(record.errorCode());
+        }
+        return ResponseEntity.status(record.status())
+                .header(IDEMPOTENT_REPLAY_HEADER, "true")
+                .body(jsonMapper.readValue(record.body(), bodyType));
+    }
+
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> flight) {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IdempotencyException(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    // The first request is running on another pod; poll the shared store until it finishes
+    private IdempotencyRecord awaitStore(String key) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Optional<IdempotencyRecord> record = store.find(key);
+            if (record.isEmpty()) {
+                // The first request failed unexpectedly and released the key
+                break;
+            }
+            if (record.get().completed()) {
+                return record.get();
+            }
+        }
+        throw new IdempotencyException(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
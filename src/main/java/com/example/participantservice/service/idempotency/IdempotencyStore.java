@@ -0,0 +1,20 @@
+package com.example.participantservice.service.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /**
+     * Claims the key for a new request. Returns empty when the caller now owns the key,
+     * otherwise the live record left by an earlier request. An expired record, including an
+     * in-progress claim whose lease lapsed, is taken over.
+     */
+    Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    // Replaces the in-progress claim, expiry included, with the final outcome
+    void complete(String key, IdempotencyRecord record);
+
+    void release(String key);
+}
@@ -0,0 +1,62 @@
+package com.example.participantservice.service.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "participant.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+    public InMemoryIdempotencyStore(@Value("${participant.idempotency.max-entries:50000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress) {
+        Instant now = Instant.now();
+        if (records.size() >= maxEntries) {
+            evict(now);
+        }
+        IdempotencyRecord existing = records.compute(key,
+                (k, current) -> current == null || current.isExpired(now) ? inProgress : current);
+        return existing == inProgress ? Optional.empty() : Optional.of(existing);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        IdempotencyRecord record = records.get(key);
+        return record == null || record.isExpired(Instant.now()) ? Optional.empty() : Optional.of(record);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+
+    @Override
+    public void release(String key) {
+        records.remove(key);
+    }
+
+    private void evict(Instant now) {
+        records.values().removeIf(record -> record.isExpired(now));
+
+        // Still full: drop completed records first, never the ones a request is still working on
+        Iterator<IdempotencyRecord> iterator = records.values().iterator();
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        while (records.size() > target && iterator.hasNext()) {
+            if (iterator.next().completed()) {
+                iterator.remove();
+            }
+        }
+    }
+}
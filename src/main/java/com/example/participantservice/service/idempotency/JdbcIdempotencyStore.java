@@ -0,0 +1,92 @@
+package com.example.participantservice.service.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Idempotency records kept in the IDEMPOTENCY_KEYS table, so replays survive restarts and are shared by every pod.
+ */
+@Component
+@ConditionalOnProperty(name = "participant.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final RowMapper<IdempotencyRecord> ROW_MAPPER = (rs, rowNum) -> new IdempotencyRecord(
+            rs.getString("FINGERPRINT"),
+            rs.getInt("COMPLETED") == 1,
+            rs.getInt("STATUS_CODE"),
+            rs.getString("RESPONSE_BODY"),
+            rs.getString("ERROR_TYPE"),
+            rs.getString("ERROR_CODE"),
+            rs.getTimestamp("EXPIRES_ON").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress) {
+        try {
+            jdbcTemplate.update("""
+                    insert into IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY, FINGERPRINT, COMPLETED, EXPIRES_ON)
+                    values (?, ?, 0, ?)
+                    """, key, inProgress.fingerprint(), Timestamp.from(inProgress.expiresAt()));
+            return Optional.empty();
+        } catch (DuplicateKeyException ex) {
+            Optional<IdempotencyRecord> existing = find(key);
+            if (existing.isPresent()) {
+                return existing;
+            }
+            // The earlier record expired, or its in-progress lease lapsed because the owner died; clear it and try once more
+            jdbcTemplate.update("delete from IDEMPOTENCY_KEYS where IDEMPOTENCY_KEY = ? and EXPIRES_ON <= ?",
+                    key, Timestamp.from(Instant.now()));
+            try {
+                jdbcTemplate.update("""
+                        insert into IDEMPOTENCY_KEYS (IDEMPOTENCY_KEY, FINGERPRINT, COMPLETED, EXPIRES_ON)
+                        values (?, ?, 0, ?)
+                        """, key, inProgress.fingerprint(), Timestamp.from(inProgress.expiresAt()));
+                return Optional.empty();
+            } catch (DuplicateKeyException raced) {
+                return find(key);
+            }
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        return jdbcTemplate.query("""
+                select FINGERPRINT, COMPLETED, STATUS_CODE, RESPONSE_BODY, ERROR_TYPE, ERROR_CODE, EXPIRES_ON
+                from IDEMPOTENCY_KEYS
+                where IDEMPOTENCY_KEY = ? and EXPIRES_ON > ?
+                """, ROW_MAPPER, key, Timestamp.from(Instant.now())).stream().findFirst();
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        jdbcTemplate.update("""
+                update IDEMPOTENCY_KEYS
+                set COMPLETED = 1, STATUS_CODE = ?, RESPONSE_BODY = ?, ERROR_TYPE = ?, ERROR_CODE = ?, EXPIRES_ON = ?
+                where IDEMPOTENCY_KEY = ?
+                """, record.status(), record.body(), record.errorType(), record.errorCode(),
+                Timestamp.from(record.expiresAt()), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("delete from IDEMPOTENCY_KEYS where IDEMPOTENCY_KEY = ?", key);
+    }
+
+    @Scheduled(fixedDelayString = "${participant.idempotency.purge-interval:PT15M}")
+    public void purgeExpired() {
+        jdbcTemplate.update("delete from IDEMPOTENCY_KEYS where EXPIRES_ON <= ?", Timestamp.from(Instant.now()));
+    }
+}
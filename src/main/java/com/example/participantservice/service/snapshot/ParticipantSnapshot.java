@@ -0,0 +1,20 @@
+package com.example.participantservice.service.snapshot;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A published snapshot file. {@code version} is derived from the uncompressed content, so regenerating an
+ * unchanged participant set keeps the same version and clients' cached copies stay valid.
+ */
+public record ParticipantSnapshot(
+    Path file,
+    String version,
+    long length,
+    Instant createdOn
+) {
+
+    public String etag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.participantservice.service.snapshot;
+
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.repository.ParticipantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes every participant once into a gzip-compressed JSON array on local disk, so the daily partner downloads
+ * are served from a file instead of each re-running the full scan. A snapshot is written to a temporary file and
+ * renamed into place, so readers only ever see complete files; the newest few are kept because a download that
+ * started on an older file keeps reading it after a newer one is published.
+ */
+@Service
+public class ParticipantSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantSnapshotService.class);
+
+    private static final String PREFIX = "participants-";
+    private static final String SUFFIX = ".json.gz";
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ParticipantRepository participantRepository;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+    private final int keep;
+    private final AtomicReference<ParticipantSnapshot> current = new AtomicReference<>();
+    private final ReentrantLock generating = new ReentrantLock();
+
+    public ParticipantSnapshotService(ParticipantRepository participantRepository,
+                                      JsonMapper jsonMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${participant.snapshot.directory:${java.io.tmpdir}/participant-snapshots}") Path directory,
+                                      @Value("${participant.snapshot.keep:3}") int keep) {
+        this.participantRepository = participantRepository;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = directory;
+        this.keep = Math.max(keep, 2);
+        restoreLatest();
+    }
+
+    public Optional<ParticipantSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    @Scheduled(cron = "${participant.snapshot.cron:0 0 5 * * *}")
+    public void refresh() {
+        try {
+            generate();
+        } catch (RuntimeException ex) {
+            log.warn("Unable to generate participant snapshot: {}", ex.getMessage());
+        }
+    }
+
+    // Covers a fresh pod with an empty directory, and retries until the first snapshot exists
+    @Scheduled(initialDelayString = "${participant.snapshot.initial-delay:PT30S}",
+               fixedDelayString = "${participant.snapshot.retry-interval:PT5M}")
+    public void generateIfMissing() {
+        if (current.get() == null) {
+            refresh();
+        }
+    }
+
+    public ParticipantSnapshot generate() {
+        generating.lock();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, PREFIX, ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long participants = write(temp, digest);
+            String version = HexFormat.of().formatHex(digest.digest(), 0, 8);
+
+            ParticipantSnapshot previous = current.get();
+            if (previous != null && previous.version().equals(version)) {
+                log.info("Participant snapshot unchanged at version {}", version);
+                return previous;
+            }
+
+            Instant createdOn = Instant.now();
+            Path target = directory.resolve(PREFIX + STAMP.format(createdOn) + "-" + version + SUFFIX);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            ParticipantSnapshot snapshot = new ParticipantSnapshot(target, version, Files.size(target), createdOn);
+            current.set(snapshot);
+            log.info("Published participant snapshot {} with {} participants ({} bytes)", version, participants, snapshot.length());
+            prune();
+            return snapshot;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        } finally {
+            deleteQuietly(temp);
+            generating.unlock();
+        }
+    }
+
+    // The digest sees the uncompressed JSON, so the version depends only on the data and not on gzip settings
+    private long write(Path file, MessageDigest digest) throws IOException {
+        try (OutputStream out = new DigestOutputStream(
+                     new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), BUFFER_SIZE), digest);
+             JsonGenerator generator = jsonMapper.createGenerator(out)) {
+            return readOnlyTransaction.execute(status -> {
+                long count = 0;
+                generator.writeStartArray();
+                try (Stream<ParticipantResponse> rows = participantRepository.streamAllResponses()) {
+                    for (Iterator<ParticipantResponse> it = rows.iterator(); it.hasNext(); count++) {
+                        generator.writePOJO(it.next());
+                    }
+                }
+                generator.writeEndArray();
+                return count;
+            });
+        }
+    }
+
+    // Picks up the newest file left by a previous run, so a restart serves immediately instead of waiting for the schedule
+    private void restoreLatest() {
+        try {
+            List<Path> snapshots = listSnapshots();
+            if (snapshots.isEmpty()) {
+                return;
+            }
+            Path latest = snapshots.getFirst();
+            String name = latest.getFileName().toString();
+            String version = name.substring(name.lastIndexOf('-') + 1, name.length() - SUFFIX.length());
+            current.set(new ParticipantSnapshot(latest, version, Files.size(latest), Files.getLastModifiedTime(latest).toInstant()));
+            log.info("Restored participant snapshot {} from {}", version, latest);
+        } catch (IOException ex) {
+            log.warn("Unable to restore participant snapshot from {}: {}", directory, ex.getMessage());
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Path> snapshots = listSnapshots();
+        for (Path stale : snapshots.subList(Math.min(keep, snapshots.size()), snapshots.size())) {
+            deleteQuietly(stale);
+        }
+    }
+
+    // Newest first; the UTC timestamp in the name sorts chronologically
+    private List<Path> listSnapshots() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.debug("Unable to delete {}: {}", file, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.participantservice;
+
+import com.example.participantservice.domain.event.EnrollmentCreatedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.RemoteChangeEvent;
+import com.example.participantservice.service.coherence.ChangeLogPoller;
+import com.example.participantservice.service.coherence.ChangeLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two "pods" with their own writer, poller and event stream share one in-memory database
+class CacheCoherenceTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+    private Pod podA;
+    private Pod podB;
+
+    private final class Pod {
+        final List<Object> events = new ArrayList<>();
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ChangeLogWriter writer;
+        final ChangeLogPoller poller;
+
+        Pod(String host, Duration grace) {
+            writer = new ChangeLogWriter(jdbcTemplate, host);
+            poller = new ChangeLogPoller(jdbcTemplate, events::add, writer, meterRegistry,
+                    Duration.ofMillis(250), Duration.ofSeconds(5), grace, Duration.ofHours(1), 2);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:coherence;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("""
+                create table CACHE_INVALIDATIONS (
+                    CHANGE_ID number generated always as identity primary key,
+                    ENTITY varchar2(30) not null, ENTITY_KEY varchar2(100) not null, ORIGIN varchar2(100) not null,
+                    CHANGED_ON timestamp(6) with time zone not null)
+                """);
+        podA = new Pod("pod-a", Duration.ofSeconds(5));
+        podB = new Pod("pod-b", Duration.ofSeconds(5));
+        podA.poller.poll();
+        podB.poller.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    @DisplayName("Should deliver committed changes to the other pod once, skip the writer's own and drop rolled-back ones")
+    void poll_DeliversOtherPodsCommittedChanges() {
+        //Arrange
+        transaction.executeWithoutResult(status -> {
+            for (long id = 1; id <= 3; id++) {
+                podA.writer.onParticipantChanged(ParticipantChangedEvent.deleted(id, null, List.of()));
+            }
+            podA.writer.onParticipantChanged(ParticipantChangedEvent.deleted(1L, null, List.of()));
+            podA.writer.onEnrollmentCreated(new EnrollmentCreatedEvent(2L, "ADULT"));
+        });
+        transaction.executeWithoutResult(status -> {
+            podA.writer.onParticipantChanged(ParticipantChangedEvent.deleted(9L, null, List.of()));
+            status.setRollbackOnly();
+        });
+
+        //Act
+        int read = podB.poller.poll();
+        int readAgain = podB.poller.poll();
+        podA.poller.poll();
+
+        //Assert
+        assertEquals(4, read, "duplicates within a transaction are written once, batches page through all rows");
+        assertEquals(0, readAgain);
+        assertEquals(List.of(
+                new RemoteChangeEvent(RemoteChangeEvent.PARTICIPANT, "1"),
+                new RemoteChangeEvent(RemoteChangeEvent.PARTICIPANT, "2"),
+                new RemoteChangeEvent(RemoteChangeEvent.PARTICIPANT, "3"),
+                new RemoteChangeEvent(RemoteChangeEvent.PROGRAM, "ADULT")), podB.events);
+        assertTrue(podA.events.isEmpty());
+        assertEquals(4, podB.meterRegistry.get("participant.cache.sync.lag").timer().count());
+        assertEquals(4.0, podB.meterRegistry.get("participant.cache.sync.invalidations").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should still deliver a lower change ID that commits after a higher one was polled")
+    void poll_DeliversLateCommittingChange() throws Exception {
+        //Arrange
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            try (PreparedStatement insert = slow.prepareStatement("""
+                    insert into CACHE_INVALIDATIONS (ENTITY, ENTITY_KEY, ORIGIN, CHANGED_ON) values ('PARTICIPANT', '1', 'pod-c', ?)
+                    """)) {
+                insert.setTimestamp(1, Timestamp.from(Instant.now()));
+                insert.executeUpdate();
+            }
+            podA.writer.onParticipantChanged(ParticipantChangedEvent.deleted(2L, null, List.of()));
+
+            //Act
+            podB.poller.poll();
+            slow.commit();
+        }
+        podB.poller.poll();
+
+        //Assert
+        assertEquals(List.of(
+                new RemoteChangeEvent(RemoteChangeEvent.PARTICIPANT, "2"),
+                new RemoteChangeEvent(RemoteChangeEvent.PARTICIPANT, "1")), podB.events);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.security.CachingJwtDecoder;
+import com.example.participantservice.config.security.PrefetchingJwkSource;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingJwtDecoderTest {
+
+    private static final String ISSUER = "https://issuer.test";
+
+    private HttpServer jwksServer;
+    private PrefetchingJwkSource jwkSource;
+    private RSAKey signingKey;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @BeforeEach
+    void startLocalJwks() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+        byte[] body = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/jwks", exchange -> {
+            jwksRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksServer.start();
+
+        jwkSource = new PrefetchingJwkSource(
+                URI.create("http://localhost:" + jwksServer.getAddress().getPort() + "/jwks"), Duration.ofHours(1));
+        jwkSource.refresh();
+    }
+
+    @AfterEach
+    void stopLocalJwks() {
+        jwkSource.close();
+        jwksServer.stop(0);
+    }
+
+    private CachingJwtDecoder decoder(int maxSize) {
+        NimbusJwtDecoder verifier = NimbusJwtDecoder.withJwkSource(jwkSource).build();
+        verifier.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        return new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return verifier.decode(token);
+        }, maxSize, Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    private String token(String subject) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(subject)
+                .claim("email", subject + "@example.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(600)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    @Test
+    @DisplayName("Should verify a token once against the prefetched JWKS and serve repeats from cache")
+    void decode_CachesVerifiedToken() throws Exception {
+        //Arrange
+        CachingJwtDecoder decoder = decoder(100);
+        String token = token("user-1");
+
+        //Act
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        //Assert
+        assertEquals("user-1@example.com", second.getClaimAsString("email"));
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1, decoder.hitCount());
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose signature does not verify")
+    void decode_RejectsTamperedToken() throws Exception {
+        //Arrange
+        CachingJwtDecoder decoder = decoder(100);
+        String token = token("user-1");
+        String tampered = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+
+        //Act & Assert
+        assertThrows(JwtException.class, () -> decoder.decode(tampered));
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the cache within its configured bound")
+    void decode_BoundsCacheSize() throws Exception {
+        //Arrange
+        CachingJwtDecoder decoder = decoder(2);
+
+        //Act
+        for (int i = 0; i < 5; i++) {
+            decoder.decode(token("user-" + i));
+        }
+
+        //Assert
+        assertTrue(decoder.size() <= 2);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.participantservice;
+
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.service.enrollment.EnrollmentEngine;
+import com.example.participantservice.service.enrollment.SetBasedEnrollmentEngine;
+import com.example.participantservice.service.enrollment.StoredProcedureEnrollmentEngine;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.JndiDataSourceAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Side-by-side timing of both enrollment engines against the test profile's Oracle database.
+ * Not part of the regular build (no *Test suffix); run with {@code mvn test -Dtest=EnrollmentEngineBenchmark}.
+ * Every round is rolled back, so the database is left unchanged.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnableAutoConfiguration(exclude = { JndiDataSourceAutoConfiguration.class })
+class EnrollmentEngineBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentEngineBenchmark.class);
+
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 200);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareEngines() {
+        EnrollmentEngine procedure = new StoredProcedureEnrollmentEngine(participantRepository);
+        EnrollmentEngine setBased = new SetBasedEnrollmentEngine(jdbcTemplate);
+
+        List<Long> participantIds = jdbcTemplate.queryForList(
+                "select PARTICIPANT_ID from PARTICIPANTS order by PARTICIPANT_ID fetch first ? rows only", Long.class, PARTICIPANTS);
+        List<String> programCodes = jdbcTemplate.queryForList("select PROGRAM_CODE from PROGRAM_TYPES", String.class);
+        assertFalse(participantIds.isEmpty() || programCodes.isEmpty(), "Benchmark needs participants and program types to enroll");
+
+        // Warm up both paths (statement caches, JIT), then check they agree call for call
+        List<String> expected = run(procedure, participantIds, programCodes);
+        assertEquals(expected, run(setBased, participantIds, programCodes));
+
+        long procedureNanos = 0;
+        long setBasedNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            run(procedure, participantIds, programCodes);
+            procedureNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            run(setBased, participantIds, programCodes);
+            setBasedNanos += System.nanoTime() - start;
+        }
+
+        int calls = expected.size() * ROUNDS;
+        log.info("Enrollment engines, {} calls each: procedure {} us/call, set-based {} us/call", calls,
+                String.format("%.1f", procedureNanos / 1_000.0 / calls), String.format("%.1f", setBasedNanos / 1_000.0 / calls));
+    }
+
+    // Enrolls every participant in every program twice (the second attempt is a duplicate), then rolls back
+    private List<String> run(EnrollmentEngine engine, List<Long> participantIds, List<String> programCodes) {
+        return transactionTemplate.execute(status -> {
+            List<String> outcomes = new ArrayList<>();
+            for (int attempt = 0; attempt < 2; attempt++) {
+                for (Long participantId : participantIds) {
+                    for (String programCode : programCodes) {
+                        outcomes.add(engine.enroll(participantId, programCode, "benchmark"));
+                    }
+                }
+            }
+            status.setRollbackOnly();
+            return outcomes;
+        });
+    }
+}
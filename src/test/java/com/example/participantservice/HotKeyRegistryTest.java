@@ -0,0 +1,87 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.hotkeys.HotKey;
+import com.example.participantservice.config.hotkeys.HotKeyInterceptor;
+import com.example.participantservice.config.hotkeys.HotKeyRegistry;
+import com.example.participantservice.config.hotkeys.HotKeyRegistry.HotKeysReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyRegistryTest {
+
+    private static final String BY_ID = "/api/participants/{participantId}";
+
+    private final HotKeyRegistry registry = new HotKeyRegistry(4, 1024, 3, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("Should surface the dominant keys of a skewed stream and halve their counts on decay")
+    void report_ListsHeavyHittersAndDecays() {
+        //Arrange
+        for (int i = 0; i < 20_000; i++) {
+            registry.recordEndpointKey(BY_ID, String.valueOf(i % 5_000));
+            if (i % 4 == 0) {
+                registry.recordEndpointKey(BY_ID, "42");
+            }
+            if (i % 10 == 0) {
+                registry.recordEndpointKey(BY_ID, "7");
+            }
+        }
+
+        //Act
+        List<HotKey> top = registry.report(2).byEndpoint().get(BY_ID);
+        long before = registry.estimate(BY_ID, "42");
+        registry.decay();
+        HotKeysReport decayed = registry.report(0);
+
+        //Assert
+        assertEquals(List.of("42", "7"), top.stream().map(HotKey::key).toList());
+        assertTrue(before >= 5_004, "count-min never undercounts");
+        assertEquals(before / 2, registry.estimate(BY_ID, "42"));
+        assertEquals("42", decayed.byEndpoint().get(BY_ID).getFirst().key());
+        assertTrue(decayed.byEndpoint().get(BY_ID).size() <= 3);
+    }
+
+    @Test
+    @DisplayName("Should keep keys with equal String hash codes apart in the sketch")
+    void estimate_SeparatesStringHashCodeCollisions() {
+        //Arrange
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        for (int i = 0; i < 1_000; i++) {
+            registry.recordEndpointKey(BY_ID, "Aa");
+        }
+        registry.recordEndpointKey(BY_ID, "BB");
+
+        //Act
+        long estimate = registry.estimate(BY_ID, "BB");
+
+        //Assert
+        assertEquals(1, estimate);
+    }
+
+    @Test
+    @DisplayName("Should record the matched path variable under its URI pattern")
+    void interceptor_RecordsPathVariableByPattern() {
+        //Arrange
+        HotKeyInterceptor interceptor = new HotKeyInterceptor(registry, List.of("participantId", "programCode"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/participants/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, BY_ID);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("participantId", "42"));
+
+        //Act
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        //Assert
+        assertTrue(proceed);
+        assertEquals(List.of(new HotKey("42", 1)), registry.report(0).byEndpoint().get(BY_ID));
+        assertTrue(registry.report(0).bySubject().isEmpty());
+    }
+}
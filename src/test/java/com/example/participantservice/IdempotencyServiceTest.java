@@ -0,0 +1,244 @@
+package com.example.participantservice;
+
+import com.example.participantservice.dto.request.EnrollmentRequest;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.exception.EnrollmentException;
+import com.example.participantservice.exception.IdempotencyException;
+import com.example.participantservice.service.idempotency.IdempotencyRecord;
+import com.example.participantservice.service.idempotency.IdempotencyService;
+import com.example.participantservice.service.idempotency.IdempotencyStore;
+import com.example.participantservice.service.idempotency.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.participantservice.domain.constant.AppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService idempotencyService = new IdempotencyService(
+            new InMemoryIdempotencyStore(100), JsonMapper.builder().build(), Duration.ofHours(1), Duration.ofSeconds(5));
+
+    private final EnrollmentRequest request = new EnrollmentRequest(1L, "FITNESS", "mlindros");
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private ResponseEntity<ParticipantResponse> created() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ParticipantResponse(1L, "Mark", "Lindros", "mlindros@gmail.com", LocalDate.of(1990, 5, 15), "ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Should replay the first response for a retried key without running the request again")
+    void execute_ReplaysStoredResponse() {
+        //Act
+        ResponseEntity<ParticipantResponse> first = idempotencyService.execute("create", "key-1", request, ParticipantResponse.class, this::created);
+        ResponseEntity<ParticipantResponse> retry = idempotencyService.execute("create", "key-1", request, ParticipantResponse.class, this::created);
+
+        //Assert
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(first.getBody(), retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst(IDEMPOTENT_REPLAY_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should replay a business error instead of repeating the database work")
+    void execute_ReplaysBusinessError() {
+        //Act & Assert
+        for (int attempt = 0; attempt < 2; attempt++) {
+            EnrollmentException ex = assertThrows(EnrollmentException.class,
+                    () -> idempotencyService.execute("enroll", "key-2", request, String.class, () -> {
+                        executions.incrementAndGet();
+                        throw new EnrollmentException(ALREADY_ENROLLED);
+                    }));
+            assertEquals(ALREADY_ENROLLED, ex.getMessage());
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request body")
+    void execute_RejectsReusedKey() {
+        //Arrange
+        idempotencyService.execute("create", "key-3", request, ParticipantResponse.class, this::created);
+
+        //Act & Assert
+        IdempotencyException ex = assertThrows(IdempotencyException.class,
+                () -> idempotencyService.execute("create", "key-3", new EnrollmentRequest(2L, "FITNESS", "mlindros"),
+                        ParticipantResponse.class, this::created));
+        assertEquals(IDEMPOTENCY_KEY_REUSED, ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should make a concurrent duplicate wait for the first request and share its response")
+    void execute_ConcurrentDuplicateWaits() throws Exception {
+        //Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<ResponseEntity<ParticipantResponse>> first = executor.submit(() ->
+                    idempotencyService.execute("create", "key-4", request, ParticipantResponse.class, () -> {
+                        running.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return created();
+                    }));
+            running.await(5, TimeUnit.SECONDS);
+
+            //Act
+            Future<ResponseEntity<ParticipantResponse>> duplicate = executor.submit(() ->
+                    idempotencyService.execute("create", "key-4", request, ParticipantResponse.class, this::created));
+            Thread.sleep(100);
+            assertFalse(duplicate.isDone());
+            release.countDown();
+
+            //Assert
+            assertEquals(first.get(5, TimeUnit.SECONDS).getBody(), duplicate.get(5, TimeUnit.SECONDS).getBody());
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should refuse retries instead of repeating the write when the response cannot be stored")
+    void execute_UnserializableResponseIsNotRepeated() {
+        //Arrange
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        IdempotencyService service = new IdempotencyService(new InMemoryIdempotencyStore(100), jsonMapper,
+                Duration.ofHours(1), Duration.ofSeconds(5));
+
+        //Act
+        ResponseEntity<Unserializable> first = service.execute("create", "key-5", request, Unserializable.class, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(new Unserializable());
+        });
+        IdempotencyException retry = assertThrows(IdempotencyException.class,
+                () -> service.execute("create", "key-5", request, Unserializable.class, () -> {
+                    executions.incrementAndGet();
+                    return ResponseEntity.ok(new Unserializable());
+                }));
+
+        //Assert
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(IDEMPOTENCY_RESPONSE_UNAVAILABLE, retry.getMessage());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should let a retry take over a key whose owner stopped before its lease ran out")
+    void execute_TakesOverLapsedClaim() throws Exception {
+        //Arrange
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100);
+        Duration waitTimeout = Duration.ofMillis(20);
+        IdempotencyService deadPod = new IdempotencyService(store, JsonMapper.builder().build(), Duration.ofHours(1), waitTimeout);
+        IdempotencyService livePod = new IdempotencyService(store, JsonMapper.builder().build(), Duration.ofHours(1), waitTimeout);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            executor.submit(() -> deadPod.execute("create", "key-6", request, ParticipantResponse.class, () -> {
+                running.countDown();
+                try {
+                    never.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return created();
+            }));
+            running.await(5, TimeUnit.SECONDS);
+
+            //Act & Assert
+            IdempotencyException ex = assertThrows(IdempotencyException.class,
+                    () -> livePod.execute("create", "key-6", request, ParticipantResponse.class, this::created));
+            assertEquals(IDEMPOTENCY_REQUEST_IN_PROGRESS, ex.getMessage());
+
+            Thread.sleep(waitTimeout.multipliedBy(4).toMillis());
+            ResponseEntity<ParticipantResponse> retry = livePod.execute("create", "key-6", request, ParticipantResponse.class, this::created);
+            assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+            assertEquals(1, executions.get());
+            never.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail local duplicates at once when claiming the key fails")
+    void execute_ClaimFailureReleasesLocalWaiters() throws Exception {
+        //Arrange
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        InMemoryIdempotencyStore delegate = new InMemoryIdempotencyStore(100);
+        IdempotencyStore failingStore = new IdempotencyStore() {
+            @Override
+            public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress) {
+                claiming.countDown();
+                try {
+                    fail.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("store unavailable");
+            }
+
+            @Override
+            public Optional<IdempotencyRecord> find(String key) {
+                return delegate.find(key);
+            }
+
+            @Override
+            public void complete(String key, IdempotencyRecord record) {
+                delegate.complete(key, record);
+            }
+
+            @Override
+            public void release(String key) {
+                delegate.release(key);
+            }
+        };
+        IdempotencyService service = new IdempotencyService(failingStore, JsonMapper.builder().build(),
+                Duration.ofHours(1), Duration.ofSeconds(30));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<ResponseEntity<ParticipantResponse>> owner = executor.submit(() ->
+                    service.execute("create", "key-7", request, ParticipantResponse.class, this::created));
+            claiming.await(5, TimeUnit.SECONDS);
+            Future<ResponseEntity<ParticipantResponse>> duplicate = executor.submit(() ->
+                    service.execute("create", "key-7", request, ParticipantResponse.class, this::created));
+            Thread.sleep(100);
+
+            //Act
+            fail.countDown();
+
+            //Assert
+            ExecutionException ownerError = assertThrows(ExecutionException.class, () -> owner.get(5, TimeUnit.SECONDS));
+            ExecutionException duplicateError = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+            assertEquals("store unavailable", ownerError.getCause().getMessage());
+            assertEquals("store unavailable", duplicateError.getCause().getMessage());
+        }
+        assertEquals(0, executions.get());
+    }
+
+    // Serializing the body fails after the write it describes has already happened
+    public static class Unserializable {
+        public String getValue() {
+            throw new IllegalStateException("not serializable");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.jfr.EnrollmentEvent;
+import com.example.participantservice.config.jfr.JfrEndpoint;
+import com.example.participantservice.config.jfr.JfrEndpoint.JfrStatus;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEndpointTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should start, dump and stop a recording that captures the service's custom events")
+    void control_StartDumpStop() throws Exception {
+        //Arrange
+        JfrEndpoint endpoint = new JfrEndpoint(directory, Duration.ofMinutes(5), DataSize.ofMegabytes(20), Duration.ZERO, 5);
+
+        //Act
+        JfrStatus started = endpoint.control("start", "default", null);
+        EnrollmentEvent event = new EnrollmentEvent();
+        event.participantId = 1L;
+        event.programCode = "FITNESS";
+        event.outcome = "SUCCESS";
+        event.commit();
+        JfrStatus dumped = endpoint.control("dump", null, null);
+        JfrStatus stopped = endpoint.control("stop", null, null);
+        List<RecordedEvent> enrollments = RecordingFile.readAllEvents(Path.of(stopped.lastDump())).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("participant.Enrollment"))
+                .toList();
+
+        //Assert
+        assertEquals("RUNNING", started.state());
+        assertEquals("default", started.settings());
+        assertNotNull(dumped.lastDump());
+        assertEquals("CLOSED", stopped.state());
+        assertEquals(1, enrollments.size());
+        assertEquals("FITNESS", enrollments.getFirst().getString("programCode"));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("dump", null, null));
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control("start", "no-such-profile", null));
+        assertNotNull(JsonMapper.builder().build().writeValueAsString(stopped));
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest dump files")
+    void control_PrunesOldDumps() throws Exception {
+        //Arrange
+        JfrEndpoint endpoint = new JfrEndpoint(directory, Duration.ofMinutes(5), DataSize.ofMegabytes(20), Duration.ZERO, 2);
+        endpoint.control("start", "default", null);
+
+        //Act
+        for (int i = 0; i < 3; i++) {
+            endpoint.control("dump", null, null);
+            Thread.sleep(5);
+        }
+        JfrStatus stopped = endpoint.control("stop", null, null);
+
+        //Assert
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> dumps = files.toList();
+            assertEquals(2, dumps.size());
+            assertTrue(dumps.contains(Path.of(stopped.lastDump())));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.participantservice;
+
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.service.archive.ParticipantArchiveService;
+import com.example.participantservice.service.archive.ParticipantArchiveService.ArchiveRun;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantArchiveTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private ParticipantArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:archive;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        archiveService = new ParticipantArchiveService(null, null, jdbcTemplate, events::add,
+                new DataSourceTransactionManager(dataSource), new SimpleMeterRegistry(),
+                Duration.ofDays(730), Duration.ofDays(365), 2);
+
+        for (String suffix : List.of("", "_ARCHIVE")) {
+            String archivedOn = suffix.isEmpty() ? "" : ", ARCHIVED_ON timestamp(6) with time zone";
+            jdbcTemplate.execute("""
+                    create table PARTICIPANTS%s (
+                        PARTICIPANT_ID number primary key, FIRST_NAME varchar2(50), LAST_NAME varchar2(50),
+                        EMAIL varchar2(100), DOB date, ENROLLMENT_STATUS varchar2(20),
+                        CREATED_BY varchar2(50), CREATED_ON timestamp(6) with time zone,
+                        UPDATED_BY varchar2(50), UPDATED_ON timestamp(6) with time zone%s)
+                    """.formatted(suffix, archivedOn));
+            jdbcTemplate.execute("""
+                    create table ENROLLMENTS%s (
+                        ENROLLMENT_ID number primary key, PARTICIPANT_ID number, PROGRAM_CODE varchar2(20),
+                        START_DATE date, EXPIRATION_DATE date,
+                        CREATED_BY varchar2(50), CREATED_ON timestamp(6) with time zone,
+                        UPDATED_BY varchar2(50), UPDATED_ON timestamp(6) with time zone%s)
+                    """.formatted(suffix, archivedOn));
+        }
+        jdbcTemplate.execute("""
+                alter table ENROLLMENTS add constraint FK_PARTICIPANT foreign key (PARTICIPANT_ID) references PARTICIPANTS (PARTICIPANT_ID)
+                """);
+
+        LocalDate today = LocalDate.now();
+        participant(1, "INACTIVE", 3);
+        participant(2, "INACTIVE", 3);
+        participant(3, "ACTIVE", 3);
+        participant(4, "INACTIVE", 3);
+        participant(5, "INACTIVE", 0);
+        untouchedParticipant(6, Timestamp.from(Instant.now().minus(Duration.ofDays(365L * 3))));
+        untouchedParticipant(7, null);
+        untouchedParticipant(8, Timestamp.from(Instant.now().minus(Duration.ofDays(30))));
+        enrollment(10, 1, today.minusYears(3));
+        enrollment(20, 2, today.plusYears(1));
+        enrollment(40, 4, today.minusDays(100));
+        enrollment(50, 5, today.minusYears(2));
+        enrollment(51, 5, today.minusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    private void participant(long id, String status, int yearsUntouched) {
+        Timestamp updatedOn = Timestamp.from(Instant.now().minus(Duration.ofDays(365L * yearsUntouched + 1)));
+        jdbcTemplate.update("""
+                insert into PARTICIPANTS (PARTICIPANT_ID, FIRST_NAME, DOB, ENROLLMENT_STATUS, UPDATED_ON) values (?, 'P', ?, ?, ?)
+                """, id, Date.valueOf(LocalDate.of(1990, 5, 15)), status, updatedOn);
+    }
+
+    // Written before UPDATED_ON was stamped on insert, so only CREATED_ON (if anything) records when it was touched
+    private void untouchedParticipant(long id, Timestamp createdOn) {
+        jdbcTemplate.update("""
+                insert into PARTICIPANTS (PARTICIPANT_ID, FIRST_NAME, DOB, ENROLLMENT_STATUS, CREATED_ON) values (?, 'P', ?, 'INACTIVE', ?)
+                """, id, Date.valueOf(LocalDate.of(1990, 5, 15)), createdOn);
+    }
+
+    private void enrollment(long id, long participantId, LocalDate expirationDate) {
+        jdbcTemplate.update("""
+                insert into ENROLLMENTS (ENROLLMENT_ID, PARTICIPANT_ID, PROGRAM_CODE, EXPIRATION_DATE) values (?, ?, 'ADULT', ?)
+                """, id, participantId, Date.valueOf(expirationDate));
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    @Test
+    @DisplayName("Should move long-expired enrollments and cold participants with their enrollments, then find nothing on a rerun")
+    void archive_MovesColdRowsInChunksAndIsRestartable() {
+        //Act
+        ArchiveRun first = archiveService.archive();
+        ArchiveRun second = archiveService.archive();
+
+        //Assert
+        assertEquals(new ArchiveRun(2, 4), first);
+        assertEquals(new ArchiveRun(0, 0), second);
+        assertEquals(List.of(2L, 3L, 5L, 8L), ids("select PARTICIPANT_ID from PARTICIPANTS order by 1"));
+        assertEquals(List.of(1L, 4L, 6L, 7L), ids("select PARTICIPANT_ID from PARTICIPANTS_ARCHIVE where ARCHIVED_ON is not null order by 1"));
+        assertEquals(List.of(20L, 51L), ids("select ENROLLMENT_ID from ENROLLMENTS order by 1"));
+        assertEquals(List.of(10L, 40L, 50L), ids("select ENROLLMENT_ID from ENROLLMENTS_ARCHIVE order by 1"));
+        assertEquals(List.of(1L, 4L, 6L, 7L), events.stream()
+                .map(event -> ((ParticipantChangedEvent) event).participantId())
+                .toList());
+        assertTrue(events.stream().allMatch(event -> ((ParticipantChangedEvent) event).after() == null));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.participantservice;
+
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent.ParticipantState;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.service.ParticipantJsonCache;
+import com.example.participantservice.service.ParticipantService;
+import com.example.participantservice.service.VersionedParticipant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantJsonCacheTest {
+
+    @Mock
+    private ParticipantService participantService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private ParticipantJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ParticipantJsonCache(participantService, jsonMapper, meterRegistry,
+                DataSize.ofMegabytes(1), Duration.ofSeconds(5));
+    }
+
+    private static VersionedParticipant version(String status, OffsetDateTime updatedOn) {
+        return new VersionedParticipant(
+                new ParticipantResponse(1L, "Mark", "Lindros", "mlindros@gmail.com", LocalDate.of(1990, 5, 15), status),
+                updatedOn);
+    }
+
+    @Test
+    @DisplayName("Should serialize a participant once and serve the same bytes until a committed write evicts it")
+    void getById_ServesCachedBytesUntilInvalidated() {
+        //Arrange
+        OffsetDateTime created = OffsetDateTime.now().minusDays(1);
+        when(participantService.getVersionedById(1L))
+                .thenReturn(version("ACTIVE", created))
+                .thenReturn(version("INACTIVE", created.plusDays(1)));
+
+        //Act
+        byte[] first = cache.getById(1L);
+        byte[] second = cache.getById(1L);
+        long footprint = cache.sizeInBytes();
+        cache.onParticipantChanged(ParticipantChangedEvent.updated(1L,
+                new ParticipantState("ACTIVE", null), new ParticipantState("INACTIVE", null)));
+        byte[] afterUpdate = cache.getById(1L);
+
+        //Assert
+        assertSame(first, second);
+        assertEquals(jsonMapper.writeValueAsString(version("ACTIVE", created).participant()),
+                new String(first, StandardCharsets.UTF_8));
+        assertTrue(new String(afterUpdate, StandardCharsets.UTF_8).contains("\"INACTIVE\""));
+        assertTrue(footprint > first.length);
+        assertEquals(1.0, meterRegistry.get("participant.json.cache.requests").tag("result", "hit").counter().count());
+        verify(participantService, times(2)).getVersionedById(1L);
+    }
+
+    @Test
+    @DisplayName("Should serve but not cache a load that a committed write overlapped")
+    void getById_DoesNotCacheLoadOverlappedByEviction() {
+        //Arrange
+        OffsetDateTime created = OffsetDateTime.now().minusDays(1);
+        ParticipantChangedEvent changed = ParticipantChangedEvent.updated(1L,
+                new ParticipantState("ACTIVE", null), new ParticipantState("INACTIVE", null));
+        when(participantService.getVersionedById(1L))
+                .thenAnswer(invocation -> {
+                    cache.onParticipantChanged(changed);
+                    return version("ACTIVE", created);
+                })
+                .thenReturn(version("INACTIVE", created.plusDays(1)));
+
+        //Act
+        byte[] stale = cache.getById(1L);
+        long sizeAfterStaleLoad = cache.sizeInBytes();
+        byte[] fresh = cache.getById(1L);
+
+        //Assert
+        assertTrue(new String(stale, StandardCharsets.UTF_8).contains("\"ACTIVE\""));
+        assertEquals(0, sizeAfterStaleLoad);
+        assertTrue(new String(fresh, StandardCharsets.UTF_8).contains("\"INACTIVE\""));
+        verify(participantService, times(2)).getVersionedById(1L);
+    }
+}
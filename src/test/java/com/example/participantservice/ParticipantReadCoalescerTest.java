@@ -0,0 +1,79 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.datasource.ReadYourWritesTracker;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.service.ParticipantReadCoalescer;
+import com.example.participantservice.service.ParticipantService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantReadCoalescerTest {
+
+    @Mock
+    private ParticipantService participantService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static ParticipantResponse participant(String status) {
+        return new ParticipantResponse(1L, "Mark", "Lindros", "mlindros@gmail.com", null, status);
+    }
+
+    @Test
+    @DisplayName("Should load on its own instead of joining another caller's flight while the caller is inside its read-your-writes window")
+    void getById_StickyCallerDoesNotJoinFlight() throws Exception {
+        //Arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        ParticipantReadCoalescer coalescer = new ParticipantReadCoalescer(participantService, Optional.of(tracker),
+                new SimpleMeterRegistry(), Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(participantService.getById(1L, Set.of()))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return participant("ACTIVE");
+                })
+                .thenReturn(participant("INACTIVE"));
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<ParticipantResponse> leader = executor.submit(() -> coalescer.getById(1L, Set.of()));
+            loading.await(5, TimeUnit.SECONDS);
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("writer", "n/a", "ROLE_USER"));
+            tracker.markWrite();
+
+            //Act
+            ParticipantResponse sticky = coalescer.getById(1L, Set.of());
+
+            //Assert
+            assertEquals("INACTIVE", sticky.enrollmentStatus());
+            release.countDown();
+            assertEquals("ACTIVE", leader.get(5, TimeUnit.SECONDS).enrollmentStatus());
+        }
+        verify(participantService, times(2)).getById(1L, Set.of());
+    }
+}
@@ -1,9 +1,19 @@
 package com.example.participantservice;
 
+import com.example.participantservice.domain.entity.ArchivedParticipant;
+import com.example.participantservice.domain.entity.Enrollment;
 import com.example.participantservice.domain.entity.Participant;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.request.ParticipantRequest;
+import com.example.participantservice.dto.request.StatusMatch;
+import com.example.participantservice.dto.response.EnrollmentResponse;
+import com.example.participantservice.dto.response.ParticipantLookupResponse;
 import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.dto.response.ParticipantSearchResponse;
 import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.mapper.EnrollmentMapper;
 import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.repository.ParticipantArchiveRepository;
 import com.example.participantservice.repository.ParticipantRepository;
 import com.example.participantservice.service.ParticipantService;
 import org.junit.jupiter.api.DisplayName;
@@ -12,10 +22,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.example.participantservice.domain.constant.AppConstants.PARTICIPANT_ARCHIVED;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +45,12 @@ class ParticipantServiceTest {
     @Mock
     private ParticipantMapper participantMapper;
 
+    @Mock
+    private ParticipantArchiveRepository archiveRepository;
+
+    @Mock
+    private EnrollmentMapper enrollmentMapper;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -63,4 +86,120 @@ class ParticipantServiceTest {
             participantService.getById(id);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should report an archived participant as read-only on update and delete instead of not found")
+    void updateAndDelete_ArchivedParticipantIsReadOnly() {
+        //Arrange
+        Long id = 7L;
+        ParticipantRequest request = new ParticipantRequest(null, "Mark", "Lindros", "mlindros@gmail.com", null, "ACTIVE");
+        when(participantRepository.findById(id)).thenReturn(Optional.empty());
+        when(archiveRepository.existsById(id)).thenReturn(true);
+
+        //Act
+        ParticipantException onUpdate = assertThrows(ParticipantException.class, () -> participantService.updateById(id, request));
+        ParticipantException onDelete = assertThrows(ParticipantException.class, () -> participantService.deleteById(id));
+
+        //Assert
+        assertEquals(PARTICIPANT_ARCHIVED, onUpdate.getMessage());
+        assertEquals(PARTICIPANT_ARCHIVED, onDelete.getMessage());
+        verify(participantRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the archive when the participant is no longer in the hot table")
+    void findById_FallsBackToArchive() {
+        //Arrange
+        Long id = 7L;
+        ArchivedParticipant archived = new ArchivedParticipant();
+        ParticipantResponse response = new ParticipantResponse(id, "Mark", "Lindros", "mlindros@gmail.com", null, "INACTIVE");
+
+        when(participantRepository.findById(id)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(id)).thenReturn(Optional.of(archived));
+        when(participantMapper.toResponse(archived)).thenReturn(response);
+
+        //Act
+        ParticipantResponse result = participantService.getById(id);
+
+        //Assert
+        assertSame(response, result);
+        verify(archiveRepository).findById(id);
+    }
+
+    @Test
+    @DisplayName("Should return found participants in request order and report missing IDs")
+    void getByIds_PreservesOrderAndReportsMissing() {
+        //Arrange
+        Participant first = new Participant();
+        first.setParticipantId(1L);
+        Participant third = new Participant();
+        third.setParticipantId(3L);
+        ParticipantResponse firstResponse = new ParticipantResponse(1L, "Mark", "Lindros", "mlindros@gmail.com", null, "ACTIVE");
+        ParticipantResponse thirdResponse = new ParticipantResponse(3L, "Jane", "Doe", "jdoe@gmail.com", null, "PENDING");
+
+        when(participantRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(first, third));
+        when(participantMapper.toResponse(first)).thenReturn(firstResponse);
+        when(participantMapper.toResponse(third)).thenReturn(thirdResponse);
+
+        //Act
+        ParticipantLookupResponse result = participantService.getByIds(List.of(3L, 2L, 1L, 3L));
+
+        //Assert
+        assertEquals(List.of(thirdResponse, firstResponse), result.participants());
+        assertEquals(List.of(2L), result.missingIds());
+    }
+
+    @Test
+    @DisplayName("Should resolve a status prefix to canonical values and return a keyset cursor when more rows exist")
+    void findByStatus_PrefixResolvesToIndexedLookup() {
+        //Arrange
+        Participant first = new Participant();
+        Participant second = new Participant();
+        ParticipantResponse firstResponse = new ParticipantResponse(4L, "Mark", "Lindros", "mlindros@gmail.com", null, "ACTIVE");
+
+        when(participantRepository.findByStatusIn(Set.of("ACTIVE"), 0L, Limit.of(2))).thenReturn(List.of(first, second));
+        when(participantMapper.toResponse(first)).thenReturn(firstResponse);
+
+        //Act
+        ParticipantSearchResponse result = participantService.findByStatus(List.of(" act"), StatusMatch.PREFIX, null, 1, ParticipantField.all());
+
+        //Assert
+        assertEquals(List.of(firstResponse), result.participants());
+        assertNotNull(result.nextCursor());
+        assertThrows(ParticipantException.class,
+                () -> participantService.findByStatus(List.of("act"), StatusMatch.EXACT, null, 1, ParticipantField.all()));
+    }
+
+    @Test
+    @DisplayName("Should count enrollments without an expiration date as active")
+    void getActiveEnrollments_IncludesOpenEnded() {
+        //Arrange
+        Long id = 1L;
+        LocalDate today = LocalDate.now();
+        Enrollment expired = enrollment(10L, today.minusDays(1));
+        Enrollment openEnded = enrollment(11L, null);
+        Enrollment current = enrollment(12L, today.plusDays(1));
+        Participant participant = new Participant();
+        participant.setEnrollments(List.of(expired, openEnded, current));
+        EnrollmentResponse openEndedResponse = new EnrollmentResponse(11L, today, null, "Fitness", "FITNESS", 18);
+        EnrollmentResponse currentResponse = new EnrollmentResponse(12L, today, today.plusDays(1), "Fitness", "FITNESS", 18);
+
+        when(participantRepository.findById(id)).thenReturn(Optional.of(participant));
+        when(enrollmentMapper.toResponse(openEnded)).thenReturn(openEndedResponse);
+        when(enrollmentMapper.toResponse(current)).thenReturn(currentResponse);
+
+        //Act
+        List<EnrollmentResponse> result = participantService.getActiveEnrollments(id);
+
+        //Assert
+        assertEquals(List.of(openEndedResponse, currentResponse), result);
+        assertFalse(expired.isActiveOn(today));
+    }
+
+    private static Enrollment enrollment(Long enrollmentId, LocalDate expirationDate) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEnrollmentId(enrollmentId);
+        enrollment.setExpirationDate(expirationDate);
+        return enrollment;
+    }
+}
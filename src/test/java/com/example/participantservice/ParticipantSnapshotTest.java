@@ -0,0 +1,116 @@
+package com.example.participantservice;
+
+import com.example.participantservice.controller.SnapshotController;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.service.snapshot.ParticipantSnapshot;
+import com.example.participantservice.service.snapshot.ParticipantSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantSnapshotTest {
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final List<ParticipantResponse> participants = List.of(
+            new ParticipantResponse(1L, "Mark", "Lindros", "mlindros@gmail.com", LocalDate.of(1990, 5, 15), "ACTIVE"),
+            new ParticipantResponse(2L, "Ann", "Lee", "alee@gmail.com", LocalDate.of(1985, 1, 2), "PENDING"));
+
+    private ParticipantSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new ParticipantSnapshotService(participantRepository, jsonMapper, transactionManager, directory, 2);
+    }
+
+    @Test
+    @DisplayName("Should stream all participants into a gzip file once and keep the version while the data is unchanged")
+    void generate_WritesCompressedVersionedFile() throws IOException {
+        //Arrange
+        when(participantRepository.streamAllResponses())
+                .thenAnswer(invocation -> participants.stream());
+
+        //Act
+        ParticipantSnapshot first = snapshotService.generate();
+        ParticipantSnapshot second = snapshotService.generate();
+        ParticipantSnapshotService restarted =
+                new ParticipantSnapshotService(participantRepository, jsonMapper, transactionManager, directory, 2);
+
+        //Assert
+        assertSame(first, second);
+        assertEquals(jsonMapper.writeValueAsString(participants), gunzip(Files.readAllBytes(first.file())));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(first.version(), restarted.current().orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("Should serve a single byte range with 206 and answer a matching ETag with 304")
+    void download_ServesRangesAndConditionalRequests() throws IOException {
+        //Arrange
+        when(participantRepository.streamAllResponses())
+                .thenAnswer(invocation -> participants.stream());
+        ParticipantSnapshot snapshot = snapshotService.generate();
+        byte[] file = Files.readAllBytes(snapshot.file());
+        SnapshotController controller = new SnapshotController(snapshotService);
+
+        MockHttpServletRequest rangeRequest = new MockHttpServletRequest("GET", "/api/participants/snapshot");
+        rangeRequest.addHeader("Range", "bytes=10-");
+        rangeRequest.addHeader("If-Range", snapshot.etag());
+        MockHttpServletResponse rangeResponse = new MockHttpServletResponse();
+
+        MockHttpServletRequest conditionalRequest = new MockHttpServletRequest("GET", "/api/participants/snapshot");
+        conditionalRequest.addHeader("If-None-Match", snapshot.etag());
+        MockHttpServletResponse conditionalResponse = new MockHttpServletResponse();
+
+        //Act
+        controller.download(rangeRequest, rangeResponse);
+        controller.download(conditionalRequest, conditionalResponse);
+
+        //Assert
+        assertEquals(206, rangeResponse.getStatus());
+        assertEquals("bytes 10-" + (file.length - 1) + "/" + file.length, rangeResponse.getHeader("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(file, 10, file.length), rangeResponse.getContentAsByteArray());
+        assertEquals(snapshot.etag(), rangeResponse.getHeader("ETag"));
+        assertEquals(304, conditionalResponse.getStatus());
+        assertEquals(0, conditionalResponse.getContentAsByteArray().length);
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
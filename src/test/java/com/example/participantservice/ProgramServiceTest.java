@@ -0,0 +1,96 @@
+package com.example.participantservice;
+
+import com.example.participantservice.dto.response.ProgramRosterEntryResponse;
+import com.example.participantservice.dto.response.ProgramRosterResponse;
+import com.example.participantservice.exception.ProgramException;
+import com.example.participantservice.repository.EnrollmentRepository;
+import com.example.participantservice.repository.ProgramTypeRepository;
+import com.example.participantservice.service.ProgramService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.participantservice.domain.constant.AppConstants.INVALID_CURSOR;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramServiceTest {
+
+    @Mock
+    private ProgramTypeRepository programTypeRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @InjectMocks
+    private ProgramService programService;
+
+    private static ProgramRosterEntryResponse entry(long enrollmentId, LocalDate startDate) {
+        return new ProgramRosterEntryResponse(enrollmentId, enrollmentId, "Mark", "Lindros", "ACTIVE", startDate, null);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor at the page boundary that resumes after the last row of the page")
+    void getRoster_AscendingCursorRoundTrip() {
+        //Arrange
+        LocalDate start = LocalDate.of(2025, 1, 15);
+        when(programTypeRepository.existsById("FITNESS")).thenReturn(true);
+        when(enrollmentRepository.findRosterAscending(eq("FITNESS"), eq(true), any(LocalDate.class),
+                eq(LocalDate.of(1, 1, 1)), eq(0L), eq(Limit.of(3))))
+                .thenReturn(List.of(entry(10L, start), entry(11L, start), entry(12L, start.plusDays(1))));
+        when(enrollmentRepository.findRosterAscending(eq("FITNESS"), eq(true), any(LocalDate.class),
+                eq(start), eq(11L), eq(Limit.of(3))))
+                .thenReturn(List.of(entry(12L, start.plusDays(1))));
+
+        //Act
+        ProgramRosterResponse first = programService.getRoster("FITNESS", true, Sort.Direction.ASC, null, 2);
+        ProgramRosterResponse second = programService.getRoster("FITNESS", true, Sort.Direction.ASC, first.nextCursor(), 2);
+
+        //Assert
+        assertEquals(List.of(10L, 11L), first.participants().stream().map(ProgramRosterEntryResponse::enrollmentId).toList());
+        assertNotNull(first.nextCursor());
+        assertEquals(List.of(12L), second.participants().stream().map(ProgramRosterEntryResponse::enrollmentId).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should start a descending roster after the latest possible key and stop when the page is not full")
+    void getRoster_DescendingFromLatest() {
+        //Arrange
+        LocalDate start = LocalDate.of(2025, 1, 15);
+        when(programTypeRepository.existsById("FITNESS")).thenReturn(true);
+        when(enrollmentRepository.findRosterDescending(eq("FITNESS"), eq(false), any(LocalDate.class),
+                eq(LocalDate.of(9999, 12, 31)), eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                .thenReturn(List.of(entry(12L, start.plusDays(1)), entry(11L, start)));
+
+        //Act
+        ProgramRosterResponse result = programService.getRoster("FITNESS", false, Sort.Direction.DESC, null, 2);
+
+        //Assert
+        assertEquals(List.of(12L, 11L), result.participants().stream().map(ProgramRosterEntryResponse::enrollmentId).toList());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that does not decode to a start date and enrollment ID")
+    void getRoster_InvalidCursor() {
+        //Arrange
+        when(programTypeRepository.existsById("FITNESS")).thenReturn(true);
+
+        //Act & Assert
+        ProgramException ex = assertThrows(ProgramException.class,
+                () -> programService.getRoster("FITNESS", false, Sort.Direction.ASC, "not-a-cursor", 2));
+        assertEquals(INVALID_CURSOR, ex.getMessage());
+    }
+}
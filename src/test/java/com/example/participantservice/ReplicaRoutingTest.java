@@ -0,0 +1,110 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.datasource.ReadYourWritesTracker;
+import com.example.participantservice.config.datasource.ReplicaAwareDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReadYourWritesTracker tracker;
+    private ReplicaAwareDataSource replicaAware;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+        new JdbcTemplate(replica).execute("create table REPLICA_LAG (SECONDS number)");
+        new JdbcTemplate(replica).execute("insert into REPLICA_LAG values (0)");
+
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        replicaAware = new ReplicaAwareDataSource(primary, replica, tracker, Duration.ofSeconds(5),
+                "select SECONDS from REPLICA_LAG");
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicaAware);
+        routing.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("shutdown");
+        new JdbcTemplate(replica).execute("shutdown");
+    }
+
+    private static DriverManagerDataSource embeddedDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("create table SOURCE (NAME varchar(20))");
+        new JdbcTemplate(dataSource).update("insert into SOURCE values (?)", name);
+        return dataSource;
+    }
+
+    private String servedBy(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("select NAME from SOURCE", String.class));
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and all others to the primary")
+    void routesByTransactionReadOnlyFlag() {
+        assertEquals("replica", servedBy(readOnly));
+        assertEquals("primary", servedBy(readWrite));
+    }
+
+    @Test
+    @DisplayName("Should keep a client's reads on the primary right after that client writes")
+    void readYourWritesStickiness() {
+        //Arrange
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("writer", "n/a", "ROLE_USER"));
+
+        //Act
+        tracker.markWrite();
+
+        //Assert
+        assertEquals("primary", servedBy(readOnly));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("other", "n/a", "ROLE_USER"));
+        assertEquals("replica", servedBy(readOnly));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags and return once it catches up")
+    void lagFallback() {
+        //Arrange
+        new JdbcTemplate(replica).update("update REPLICA_LAG set SECONDS = 30");
+
+        //Act
+        replicaAware.checkReplica();
+
+        //Assert
+        assertFalse(replicaAware.isReplicaUsable());
+        assertEquals("primary", servedBy(readOnly));
+
+        new JdbcTemplate(replica).update("update REPLICA_LAG set SECONDS = 1");
+        replicaAware.checkReplica();
+        assertEquals("replica", servedBy(readOnly));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.participantservice;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.participantservice.config.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.stream.IntStream;
+
+import static com.example.participantservice.domain.constant.AppConstants.CORRELATION_ID_MDC_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    private SamplingTurboFilter filter(double rate) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggers("org.hibernate.SQL, com.example.participantservice.service");
+        filter.setRate(rate);
+        filter.start();
+        return filter;
+    }
+
+    @Test
+    @DisplayName("Should keep or drop every line of a request together, based on its correlation ID")
+    void decide_SamplesByCorrelationId() {
+        //Arrange
+        SamplingTurboFilter filter = filter(0.5);
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger service = context.getLogger("com.example.participantservice.service.ParticipantService");
+
+        //Act
+        long kept = IntStream.range(0, 1000).filter(i -> {
+            MDC.put(CORRELATION_ID_MDC_KEY, "request-" + i);
+            FilterReply statement = filter.decide(null, sql, Level.DEBUG, "select 1", null, null);
+            FilterReply info = filter.decide(null, service, Level.INFO, "enrolled {}", null, null);
+            assertEquals(statement, info);
+            return statement == FilterReply.NEUTRAL;
+        }).count();
+
+        //Assert
+        assertTrue(kept > 350 && kept < 650, "kept " + kept);
+    }
+
+    @Test
+    @DisplayName("Should never sample warnings or loggers outside the configured categories")
+    void decide_PassesWarningsAndOtherCategories() {
+        //Arrange
+        SamplingTurboFilter filter = filter(0.0);
+        MDC.put(CORRELATION_ID_MDC_KEY, "request-1");
+
+        //Act & Assert
+        assertEquals(FilterReply.DENY, filter.decide(null, context.getLogger("org.hibernate.SQL"), Level.DEBUG, "select 1", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, context.getLogger("org.hibernate.SQL"), Level.WARN, "slow", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, context.getLogger("org.hibernate.SQL_SLOW"), Level.INFO, "slow", null, null));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.timing.RequestTiming;
+import com.example.participantservice.config.timing.ServerTimingFilter;
+import com.example.participantservice.config.timing.ServerTimingInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.example.participantservice.domain.constant.AppConstants.SERVER_TIMING_REQUEST_HEADER;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+    private final ServerTimingInterceptor interceptor = new ServerTimingInterceptor("SCOPE_timing");
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // Stands in for the security chain and DispatcherServlet: authenticates, runs the handler, writes the body
+    private MockHttpServletResponse call(MockHttpServletRequest request, String... authorities) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("client", null, authorities));
+            interceptor.preHandle(request, response, new Object());
+            long start = RequestTiming.start();
+            RequestTiming.stop(RequestTiming.Phase.PROCEDURE, start);
+            res.getOutputStream().write("{\"participantId\":1}".getBytes(StandardCharsets.UTF_8));
+            interceptor.afterCompletion(request, response, new Object(), null);
+        });
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should add a Server-Timing breakdown for an authorized caller that asks for it")
+    void doFilter_AddsServerTimingWhenRequested() throws Exception {
+        //Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/participants/1");
+        request.addHeader(SERVER_TIMING_REQUEST_HEADER, "1");
+
+        //Act
+        MockHttpServletResponse response = call(request, "SCOPE_timing");
+
+        //Assert
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.contains("db;dur=0.0;desc=\"SQL, 0 statements\""));
+        assertTrue(header.contains("proc;dur="));
+        assertTrue(header.contains("total;dur="));
+        assertEquals("{\"participantId\":1}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should leave the response untouched without the request header or the required authority")
+    void doFilter_SkipsUnrequestedOrUnauthorizedCalls() throws Exception {
+        //Arrange
+        MockHttpServletRequest plain = new MockHttpServletRequest("GET", "/api/participants/1");
+        MockHttpServletRequest unauthorized = new MockHttpServletRequest("GET", "/api/participants/1");
+        unauthorized.addHeader(SERVER_TIMING_REQUEST_HEADER, "1");
+
+        //Act
+        MockHttpServletResponse plainResponse = call(plain, "SCOPE_timing");
+        MockHttpServletResponse unauthorizedResponse = call(unauthorized, "SCOPE_email");
+
+        //Assert
+        assertNull(plainResponse.getHeader("Server-Timing"));
+        assertNull(unauthorizedResponse.getHeader("Server-Timing"));
+        assertEquals("{\"participantId\":1}", unauthorizedResponse.getContentAsString());
+        assertEquals(0L, RequestTiming.start());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.participantservice;
+
+import com.example.participantservice.service.enrollment.SetBasedEnrollmentEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.participantservice.domain.constant.AppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SetBasedEnrollmentEngineTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+    private SetBasedEnrollmentEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:enrollment;MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        engine = new SetBasedEnrollmentEngine(jdbcTemplate);
+
+        jdbcTemplate.execute("create table PARTICIPANTS (PARTICIPANT_ID number primary key, DOB date)");
+        jdbcTemplate.execute("create table PROGRAM_TYPES (PROGRAM_CODE varchar2(20) primary key, ELIGIBILITY_AGE number(3,0))");
+        jdbcTemplate.execute("""
+                create table ENROLLMENTS (
+                    ENROLLMENT_ID number generated by default as identity primary key,
+                    PARTICIPANT_ID number, PROGRAM_CODE varchar2(20), START_DATE date, EXPIRATION_DATE date,
+                    CREATED_BY varchar2(50), UPDATED_BY varchar2(50),
+                    constraint UQ_ENROLLMENTS_PARTICIPANT_PROGRAM unique (PARTICIPANT_ID, PROGRAM_CODE))
+                """);
+
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.update("insert into PARTICIPANTS values (1, ?)", Date.valueOf(today.minusYears(21)));
+        jdbcTemplate.update("insert into PARTICIPANTS values (2, ?)", Date.valueOf(today.minusYears(21).plusDays(1)));
+        jdbcTemplate.update("insert into PROGRAM_TYPES values ('ADULT', 21)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    private int enrollments() {
+        return jdbcTemplate.queryForObject("select count(*) from ENROLLMENTS", Integer.class);
+    }
+
+    @Test
+    @DisplayName("Should report the same outcomes as PARTICIPANT_PKG.ENROLL_PARTICIPANT")
+    void enroll_MatchesStoredProcedureOutcomes() {
+        assertEquals(SUCCESS, engine.enroll(1L, "ADULT", "tester"));
+        assertEquals(ALREADY_ENROLLED, engine.enroll(1L, "ADULT", "tester"));
+        assertEquals(INELIGIBLE_AGE, engine.enroll(2L, "ADULT", "tester"));
+        assertEquals(RECORD_NOT_FOUND, engine.enroll(99L, "ADULT", "tester"));
+        assertEquals(RECORD_NOT_FOUND, engine.enroll(1L, "UNKNOWN", "tester"));
+        assertEquals(1, enrollments());
+    }
+
+    @Test
+    @DisplayName("Should let only one of two concurrent enrollments of the same pair succeed")
+    void enroll_ConcurrentDuplicateLosesOnUniqueConstraint() {
+        //Arrange
+        CompletableFuture<String> second = new CompletableFuture<>();
+
+        //Act
+        String first = transaction.execute(status -> {
+            String outcome = engine.enroll(1L, "ADULT", "first");
+            // The competing insert cannot see the uncommitted row, so it waits on the unique index until this commits
+            CompletableFuture.runAsync(() -> second.complete(engine.enroll(1L, "ADULT", "second")));
+            sleep(200);
+            return outcome;
+        });
+
+        //Assert
+        assertEquals(SUCCESS, first);
+        assertEquals(ALREADY_ENROLLED, second.join());
+        assertEquals(1, enrollments());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.participantservice;
+
+import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.service.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.participantservice.domain.constant.AppConstants.LOAD_TIMEOUT;
+import static com.example.participantservice.domain.constant.AppConstants.RECORD_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<Long, String> singleFlight =
+            new SingleFlight<>("test", Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+    private List<Future<String>> callConcurrently(ExecutorService executor, CountDownLatch release, Runnable load) throws InterruptedException {
+        AtomicInteger started = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                started.incrementAndGet();
+                return singleFlight.execute(1L, () -> {
+                    load.run();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "Mark";
+                });
+            }));
+        }
+        while (started.get() < CALLERS || singleFlight.coalescedCount() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent identical calls and give every caller its result")
+    void execute_CoalescesConcurrentCalls() throws Exception {
+        //Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            //Act
+            List<Future<String>> results = callConcurrently(executor, release, loads::incrementAndGet);
+            release.countDown();
+
+            //Assert
+            for (Future<String> result : results) {
+                assertEquals("Mark", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, singleFlight.coalescedCount());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should propagate the load's error to every waiting caller")
+    void execute_PropagatesErrorToAllWaiters() throws Exception {
+        //Arrange
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            List<Future<String>> results = callConcurrently(executor, release, () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new ParticipantException(RECORD_NOT_FOUND);
+            });
+
+            //Act
+            release.countDown();
+
+            //Assert
+            for (Future<String> result : results) {
+                ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertEquals(RECORD_NOT_FOUND, ex.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should time out a waiting caller without cancelling the shared load")
+    void execute_TimesOutWaiter() throws Exception {
+        //Arrange
+        SingleFlight<Long, String> impatient = new SingleFlight<>("test", Duration.ofMillis(50), new SimpleMeterRegistry());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> leader = executor.submit(() -> impatient.execute(1L, () -> {
+                loading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "Mark";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+
+            //Act & Assert
+            ParticipantException ex = assertThrows(ParticipantException.class, () -> impatient.execute(1L, () -> "unused"));
+            assertEquals(LOAD_TIMEOUT, ex.getMessage());
+            release.countDown();
+            assertEquals("Mark", leader.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
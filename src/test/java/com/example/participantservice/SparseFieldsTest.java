@@ -0,0 +1,54 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.SparseFieldsConfig;
+import com.example.participantservice.dto.request.ParticipantField;
+import com.example.participantservice.dto.response.ParticipantResponse;
+import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.mapper.ParticipantMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFieldsTest {
+
+    private final JsonMapper jsonMapper = jsonMapper();
+
+    private static JsonMapper jsonMapper() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        new SparseFieldsConfig().participantFieldsCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    private final ParticipantResponse participant =
+            new ParticipantResponse(1L, "Mark", "Lindros", "mlindros@gmail.com", LocalDate.of(1990, 5, 15), "ACTIVE");
+
+    @Test
+    @DisplayName("Should always include participantId and reject fields outside the allow-list")
+    void parseFields_ValidatesAgainstAllowList() {
+        assertEquals(Set.of(ParticipantField.PARTICIPANT_ID, ParticipantField.ENROLLMENT_STATUS),
+                ParticipantMapper.parseFields("enrollmentStatus"));
+        assertEquals(ParticipantField.all(), ParticipantMapper.parseFields(null));
+        assertThrows(ParticipantException.class, () -> ParticipantMapper.parseFields("enrollmentStatus,password"));
+    }
+
+    @Test
+    @DisplayName("Should write only the requested fields when a filter is supplied, and every field otherwise")
+    void write_NarrowsJsonToRequestedFields() {
+        //Arrange
+        Set<ParticipantField> fields = ParticipantMapper.parseFields("enrollmentStatus");
+
+        //Act
+        String sparse = jsonMapper.writer(SparseFieldsConfig.filterProvider(fields)).writeValueAsString(List.of(participant));
+        String full = jsonMapper.writeValueAsString(participant);
+
+        //Assert
+        assertEquals("[{\"participantId\":1,\"enrollmentStatus\":\"ACTIVE\"}]", sparse);
+        assertTrue(full.contains("\"email\":\"mlindros@gmail.com\""));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.participantservice;
+
+import com.example.participantservice.config.StartupWarmup;
+import com.example.participantservice.config.datasource.ReadYourWritesTracker;
+import com.example.participantservice.config.datasource.ReplicaAwareDataSource;
+import com.example.participantservice.mapper.ParticipantMapper;
+import com.example.participantservice.repository.EnrollmentRepository;
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.repository.ProgramTypeRepository;
+import com.example.participantservice.service.StatsService;
+import com.example.participantservice.service.enrollment.EnrollmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadata;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private ProgramTypeRepository programTypeRepository;
+
+    @Mock
+    private EnrollmentEngine enrollmentEngine;
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private ParticipantMapper participantMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    // Transactions run against their own database so connection counts on the pools reflect only the pool warm-up
+    private DriverManagerDataSource transactions;
+
+    @BeforeEach
+    void setUp() {
+        primary = spy(embeddedDatabase("warmup-primary"));
+        replica = spy(embeddedDatabase("warmup-replica"));
+        transactions = embeddedDatabase("warmup-transactions");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("shutdown");
+        new JdbcTemplate(replica).execute("shutdown");
+        new JdbcTemplate(transactions).execute("shutdown");
+    }
+
+    private static DriverManagerDataSource embeddedDatabase(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=Oracle;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private StartupWarmup warmup(DataSource dataSource, StaticListableBeanFactory beans, int connections) {
+        return new StartupWarmup(dataSource,
+                beans.getBeanProvider(ReplicaAwareDataSource.class),
+                beans.getBeanProvider(DataSourcePoolMetadataProvider.class),
+                new DataSourceTransactionManager(transactions),
+                participantRepository, enrollmentRepository, programTypeRepository, enrollmentEngine,
+                statsService, participantMapper, JsonMapper.builder().build(), meterRegistry,
+                connections, 1);
+    }
+
+    @Test
+    @DisplayName("Should open connections in the primary and replica pools behind the routing proxy and publish the warm-up time")
+    void run_WarmsBothPoolsAndRegistersGauge() throws Exception {
+        //Arrange
+        ReplicaAwareDataSource replicaAware = new ReplicaAwareDataSource(primary, replica,
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), Duration.ofSeconds(5), null);
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicaAware);
+        routing.afterPropertiesSet();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("replicaAwareDataSource", replicaAware);
+
+        //Act
+        warmup(routing, beans, 3).run(new DefaultApplicationArguments());
+
+        //Assert
+        verify(primary, times(3)).getConnection();
+        verify(replica, times(3)).getConnection();
+        assertTrue(meterRegistry.get("participant.startup.warmup").gauge().value() >= 0);
+        assertEquals("milliseconds", meterRegistry.get("participant.startup.warmup").gauge().getId().getBaseUnit());
+    }
+
+    @Test
+    @DisplayName("Should size the connection warm-up from the pool's reported minimum instead of the configured fallback")
+    void run_UsesPoolMinimumWhenReported() throws Exception {
+        //Arrange
+        DataSourcePoolMetadata metadata = mock(DataSourcePoolMetadata.class);
+        when(metadata.getMin()).thenReturn(4);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("poolMetadataProvider",
+                (DataSourcePoolMetadataProvider) dataSource -> dataSource == primary ? metadata : null);
+
+        //Act
+        warmup(primary, beans, 1).run(new DefaultApplicationArguments());
+
+        //Assert
+        verify(primary, times(4)).getConnection();
+        assertNotNull(meterRegistry.find("participant.startup.warmup").gauge());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.participantservice;
+
+import com.example.participantservice.domain.event.EnrollmentCreatedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.domain.event.ParticipantChangedEvent.ParticipantState;
+import com.example.participantservice.dto.response.StatsResponse;
+import com.example.participantservice.repository.EnrollmentRepository;
+import com.example.participantservice.repository.GroupCount;
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.service.StatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatsServiceTest {
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @InjectMocks
+    private StatsService statsService;
+
+    @Test
+    @DisplayName("Should seed counters from GROUP BY queries and apply committed changes incrementally")
+    void reconcileThenApplyEvents() {
+        //Arrange
+        int thirtyYearsAgo = LocalDate.now().getYear() - 30;
+        when(participantRepository.countByStatus()).thenReturn(List.of(new GroupCount("ACTIVE", 2L)));
+        when(participantRepository.countByBirthYear()).thenReturn(List.of(new GroupCount(thirtyYearsAgo, 2L)));
+        when(enrollmentRepository.countActiveByProgram(any())).thenReturn(List.of(new GroupCount("FITNESS", 1L)));
+
+        //Act
+        statsService.reconcile();
+        statsService.onParticipantChanged(ParticipantChangedEvent.updated(1L,
+                new ParticipantState("ACTIVE", LocalDate.of(thirtyYearsAgo, 6, 1)),
+                new ParticipantState("INACTIVE", LocalDate.of(thirtyYearsAgo, 6, 1))));
+        statsService.onEnrollmentCreated(new EnrollmentCreatedEvent(1L, "FITNESS"));
+        StatsResponse stats = statsService.getStats();
+
+        //Assert
+        assertEquals(Map.of("ACTIVE", 1L, "INACTIVE", 1L), stats.participantsByStatus());
+        assertEquals(Map.of("FITNESS", 2L), stats.activeEnrollmentsByProgram());
+        assertEquals(Map.of("25-34", 2L), stats.participantsByAgeBand());
+        assertNotNull(stats.lastReconciledOn());
+    }
+
+    @Test
+    @DisplayName("Should keep changes committed while the reconcile queries are running")
+    void reconcile_ReplaysChangesCommittedDuringQueries() {
+        //Arrange
+        int thirtyYearsAgo = LocalDate.now().getYear() - 30;
+        when(participantRepository.countByStatus()).thenReturn(List.of(new GroupCount("ACTIVE", 2L)));
+        when(participantRepository.countByBirthYear()).thenReturn(List.of(new GroupCount(thirtyYearsAgo, 2L)));
+        when(enrollmentRepository.countActiveByProgram(any())).thenAnswer(invocation -> {
+            // Commits after the status query read its snapshot and after this query read its own
+            statsService.onParticipantChanged(ParticipantChangedEvent.updated(1L,
+                    new ParticipantState("ACTIVE", LocalDate.of(thirtyYearsAgo, 6, 1)),
+                    new ParticipantState("INACTIVE", LocalDate.of(thirtyYearsAgo, 6, 1))));
+            statsService.onEnrollmentCreated(new EnrollmentCreatedEvent(1L, "FITNESS"));
+            return List.of(new GroupCount("FITNESS", 1L));
+        });
+
+        //Act
+        statsService.reconcile();
+        StatsResponse stats = statsService.getStats();
+
+        //Assert
+        assertEquals(Map.of("ACTIVE", 1L, "INACTIVE", 1L), stats.participantsByStatus());
+        assertEquals(Map.of("FITNESS", 2L), stats.activeEnrollmentsByProgram());
+        assertEquals(Map.of("25-34", 2L), stats.participantsByAgeBand());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.participantservice;
+
+import com.example.participantservice.domain.event.ParticipantChangedEvent;
+import com.example.participantservice.dto.request.StatusTransitionRequest;
+import com.example.participantservice.dto.response.StatusTransitionResponse;
+import com.example.participantservice.exception.ParticipantException;
+import com.example.participantservice.repository.GroupCount;
+import com.example.participantservice.repository.ParticipantRepository;
+import com.example.participantservice.repository.ParticipantStatusRow;
+import com.example.participantservice.service.StatusTransitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static com.example.participantservice.domain.constant.AppConstants.INVALID_TRANSITION_SELECTION;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusTransitionServiceTest {
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatusTransitionService statusTransitionService;
+
+    @BeforeEach
+    void setUp() {
+        statusTransitionService = new StatusTransitionService(participantRepository, eventPublisher, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should update an ID list in chunks of 1000, stamp the audit columns and publish one event per changed row")
+    void transition_ChunksIdListIntoSetBasedUpdates() {
+        //Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(participantRepository.findTransitionCandidatesIn(eq("INACTIVE"), anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(1).stream()
+                        .map(id -> new ParticipantStatusRow(id, "ACTIVE", LocalDate.of(1990, 5, 15)))
+                        .toList());
+        when(participantRepository.updateStatus(anyCollection(), eq("INACTIVE"), any(), any()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
+
+        //Act
+        StatusTransitionResponse response = statusTransitionService.transition(
+                new StatusTransitionRequest(" inactive ", ids, null, null, null));
+
+        //Assert
+        assertEquals(2500, response.affected());
+        assertEquals(Map.of("ACTIVE", 2500L), response.affectedByPreviousStatus());
+        assertFalse(response.dryRun());
+        verify(participantRepository, times(3)).updateStatus(anyCollection(), eq("INACTIVE"), any(), notNull());
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher, times(2500)).publishEvent(any(ParticipantChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should only count matching participants on a dry run and require exactly one of IDs or filter")
+    void transition_DryRunPreviewsWithoutUpdating() {
+        //Arrange
+        when(participantRepository.countTransitionCandidates("ACTIVE", "PENDING", null))
+                .thenReturn(List.of(new GroupCount("PENDING", 42L)));
+
+        //Act
+        StatusTransitionResponse response = statusTransitionService.transition(
+                new StatusTransitionRequest("ACTIVE", null, "pending", null, true));
+        ParticipantException neither = assertThrows(ParticipantException.class, () -> statusTransitionService.transition(
+                new StatusTransitionRequest("ACTIVE", List.of(), null, null, true)));
+        ParticipantException both = assertThrows(ParticipantException.class, () -> statusTransitionService.transition(
+                new StatusTransitionRequest("ACTIVE", List.of(1L), "PENDING", null, false)));
+
+        //Assert
+        assertTrue(response.dryRun());
+        assertEquals(42, response.affected());
+        assertEquals(INVALID_TRANSITION_SELECTION, neither.getMessage());
+        assertEquals(INVALID_TRANSITION_SELECTION, both.getMessage());
+        verify(participantRepository, never()).updateStatus(anyCollection(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should move participants without a status and report them as UNKNOWN")
+    void transition_IncludesParticipantsWithoutStatus() {
+        //Arrange
+        when(participantRepository.findTransitionCandidatesIn(eq("ACTIVE"), anyCollection()))
+                .thenReturn(List.of(new ParticipantStatusRow(1L, null, null), new ParticipantStatusRow(2L, "PENDING", null)));
+        when(participantRepository.updateStatus(anyCollection(), eq("ACTIVE"), any(), any())).thenReturn(2);
+        when(participantRepository.countTransitionCandidatesIn(eq("ACTIVE"), anyCollection()))
+                .thenReturn(List.of(new GroupCount(null, 1L), new GroupCount("PENDING", 1L)));
+
+        //Act
+        StatusTransitionResponse applied = statusTransitionService.transition(
+                new StatusTransitionRequest("ACTIVE", List.of(1L, 2L), null, null, null));
+        StatusTransitionResponse preview = statusTransitionService.transition(
+                new StatusTransitionRequest("ACTIVE", List.of(1L, 2L), null, null, true));
+
+        //Assert
+        assertEquals(Map.of("UNKNOWN", 1L, "PENDING", 1L), applied.affectedByPreviousStatus());
+        assertEquals(Map.of("UNKNOWN", 1L, "PENDING", 1L), preview.affectedByPreviousStatus());
+        verify(eventPublisher, times(2)).publishEvent(any(ParticipantChangedEvent.class));
+    }
+}